@@ -0,0 +1,449 @@
+package javax.swing;
+
+import java.awt.Rectangle;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.table.TableColumnModel;
+import javax.swing.table.object.ObjectTableModel;
+
+/**
+ * <p>
+ * Cell values ticking faster than they can be painted, for
+ * {@link JObjectTable#setTickerMode(boolean)}.
+ * </p>
+ * <p>
+ * Each row ticked gets a slot of one bit and one value per column. A tick
+ * sets the cell's dirty bit and replaces its value, so only the latest value
+ * of a cell is kept and the values replaced before being drawn are counted as
+ * dropped. At most once per frame the dirty cells are written to the model on
+ * the event dispatch thread, without firing model events, and only the
+ * visible ones are repainted, one rectangle per row, through the repaint
+ * manager.
+ * </p>
+ * <p>
+ * Ticks may come from any thread.
+ * </p>
+ *
+ * @author Antony Hixson
+ *
+ */
+final class CellTicker implements TableModelListener {
+
+	/**
+	 * Default frames per second
+	 */
+	static final int DEFAULT_FRAME_RATE = 30;
+
+	private final JObjectTable<?> table;
+	private final ObjectTableModel<?> model;
+	private final int columnCount;
+	private final Map<String, Integer> columnsByName;
+	private final Timer timer;
+	private final LongAdder droppedCount;
+
+	/**
+	 * Guarded by <tt>this</tt>
+	 */
+	private final Map<Object, Integer> slots;
+	private final BitSet dirty;
+	private Object[] slotRows;
+	private Object[] values;
+	private int[] freeSlots;
+	private int freeCount;
+	private int slotCount;
+	private boolean isScheduled;
+
+	/**
+	 * Model row of each row, <tt>null</tt> after the model changed. Only
+	 * accessed on the event dispatch thread, as are the arrays below.
+	 */
+	private Map<Object, Integer> modelRows;
+
+	/**
+	 * Reused while draining
+	 */
+	private int[] drainCells;
+	private Object[] drainRows;
+	private Object[] drainValues;
+	private int[] columnEdges;
+	private final Rectangle visible;
+	private final Rectangle cell;
+	private final Rectangle dirtyRow;
+
+	CellTicker(JObjectTable<?> table, int frameRate) {
+
+		if (table == null) {
+			throw new NullPointerException("Table cannot be null");
+		}
+
+		this.table = table;
+		this.model = table.getModel();
+		this.columnCount = model.getColumnCount();
+		this.columnsByName = new HashMap<>();
+		this.timer = new Timer(0, event -> drain());
+		this.droppedCount = new LongAdder();
+		this.slots = new IdentityHashMap<>();
+		this.dirty = new BitSet();
+		this.slotRows = new Object[16];
+		this.values = new Object[16 * columnCount];
+		this.freeSlots = new int[16];
+		this.drainCells = new int[64];
+		this.drainRows = new Object[64];
+		this.drainValues = new Object[64];
+		this.columnEdges = new int[columnCount + 1];
+		this.visible = new Rectangle();
+		this.cell = new Rectangle();
+		this.dirtyRow = new Rectangle();
+
+		for (int i = 0; i < columnCount; i++) {
+			columnsByName.put(model.getColumnName(i), i);
+		}
+
+		timer.setRepeats(false);
+
+		// A coalescing timer drops the event of a restart made while its action
+		// is running
+		timer.setCoalesce(false);
+
+		setFrameRate(frameRate);
+	}
+
+	void install() {
+		model.addTableModelListener(this);
+	}
+
+	/**
+	 * Ticks not drawn yet are written to the model first.
+	 */
+	void uninstall() {
+
+		timer.stop();
+		model.removeTableModelListener(this);
+
+		drain();
+	}
+
+	/**
+	 *
+	 * @param frameRate
+	 *            - Most frames per second
+	 */
+	void setFrameRate(int frameRate) {
+
+		if (frameRate < 1) {
+			throw new IllegalArgumentException("Frame rate must be positive");
+		}
+
+		timer.setInitialDelay(Math.max(1, 1000 / frameRate));
+	}
+
+	/**
+	 *
+	 * @param columnName
+	 *            - Name of a column
+	 * @return Column (for model)
+	 * @throws IllegalArgumentException
+	 *             No column has that name
+	 */
+	int findColumn(String columnName) throws IllegalArgumentException {
+
+		Integer result = columnsByName.get(columnName);
+
+		if (result == null) {
+			throw new IllegalArgumentException("No column named " + columnName);
+		}
+
+		return result;
+	}
+
+	/**
+	 *
+	 * @param rowObjInstance
+	 *            - Row, by identity
+	 * @param column
+	 *            - Column (for model)
+	 * @param value
+	 *            - Latest value of the cell
+	 */
+	void tick(Object rowObjInstance, int column, Object value) {
+
+		Integer slot = null;
+		int cell = 0;
+
+		if (rowObjInstance == null) {
+			throw new NullPointerException("No value supplied");
+		} else if (column < 0 || column >= columnCount) {
+			throw new IndexOutOfBoundsException("Invalid column index supplied (value=" + column + ")");
+		}
+
+		synchronized (this) {
+
+			slot = slots.get(rowObjInstance);
+
+			if (slot == null) {
+				slot = newSlot(rowObjInstance);
+			}
+
+			cell = slot * columnCount + column;
+
+			if (dirty.get(cell)) {
+				droppedCount.increment();
+			} else {
+				dirty.set(cell);
+			}
+
+			values[cell] = value;
+
+			if (!isScheduled) {
+				isScheduled = true;
+				timer.restart();
+			}
+		}
+	}
+
+	/**
+	 *
+	 * @return Ticks replaced by a later tick of the same cell before being
+	 *         drawn, or whose row was not in the model
+	 */
+	long getDroppedCount() {
+		return droppedCount.sum();
+	}
+
+	/**
+	 * Rows may have moved, been replaced or removed.
+	 */
+	@Override
+	public void tableChanged(TableModelEvent e) {
+		modelRows = null;
+	}
+
+	/**
+	 * Called holding <tt>this</tt>
+	 */
+	private int newSlot(Object rowObjInstance) {
+
+		int result = 0;
+
+		if (freeCount > 0) {
+
+			result = freeSlots[--freeCount];
+
+		} else {
+
+			result = slotCount++;
+
+			if (result == slotRows.length) {
+				slotRows = Arrays.copyOf(slotRows, result * 2);
+				values = Arrays.copyOf(values, result * 2 * columnCount);
+			}
+		}
+
+		slots.put(rowObjInstance, result);
+		slotRows[result] = rowObjInstance;
+
+		return result;
+	}
+
+	private void drain() {
+
+		int count = 0;
+
+		synchronized (this) {
+
+			count = dirty.cardinality();
+
+			if (count > drainCells.length) {
+				drainCells = new int[Math.max(count, drainCells.length * 2)];
+				drainRows = new Object[drainCells.length];
+				drainValues = new Object[drainCells.length];
+			}
+
+			for (int i = dirty.nextSetBit(0), k = 0; i >= 0; i = dirty.nextSetBit(i + 1), k++) {
+				drainCells[k] = i;
+				drainRows[k] = slotRows[i / columnCount];
+				drainValues[k] = values[i];
+				values[i] = null;
+			}
+
+			dirty.clear();
+			isScheduled = false;
+		}
+
+		if (modelRows == null) {
+			mapModelRows();
+		}
+
+		apply(count);
+
+		Arrays.fill(drainRows, 0, count, null);
+		Arrays.fill(drainValues, 0, count, null);
+	}
+
+	/**
+	 * Write the drained cells and repaint the visible ones. Cells are drained
+	 * slot by slot, so the cells of a row are adjacent and repainted as one
+	 * rectangle.
+	 */
+	private void apply(int count) {
+
+		Integer modelRow = null;
+		int column = 0;
+		int viewRow = -1;
+		int viewColumn = 0;
+		int stripRow = -1;
+		boolean isRowHeightVaried = table.isRowHeightVaried();
+		boolean isDirty = false;
+
+		table.computeVisibleRect(visible);
+		mapColumnEdges();
+
+		for (int k = 0; k < count; k++) {
+
+			modelRow = modelRows.get(drainRows[k]);
+			column = drainCells[k] % columnCount;
+
+			if (modelRow == null) {
+
+				droppedCount.increment();
+
+			} else {
+
+				try {
+
+					model.writeValueAt(drainValues[k], modelRow, column);
+
+				} catch (IllegalArgumentException e) {
+
+					e.printStackTrace();
+				}
+
+				viewRow = table.convertRowIndexToView(modelRow);
+				viewColumn = table.convertColumnIndexToView(column);
+
+				if (viewRow >= 0 && viewColumn >= 0) {
+
+					if (viewRow != stripRow && table.getRowStripCache() != null) {
+						table.getRowStripCache().invalidateRows(viewRow, viewRow);
+						stripRow = viewRow;
+					}
+
+					setCellBounds(viewRow, viewColumn, isRowHeightVaried);
+
+					if (cell.intersects(visible)) {
+
+						if (isDirty && dirtyRow.y == cell.y) {
+
+							dirtyRow.add(cell);
+
+						} else {
+
+							if (isDirty) {
+								table.repaint(dirtyRow);
+							}
+
+							dirtyRow.setBounds(cell);
+							isDirty = true;
+						}
+					}
+				}
+			}
+		}
+
+		if (isDirty) {
+			table.repaint(dirtyRow);
+		}
+	}
+
+	/**
+	 * Left edge of each view column, as if left to right, and the right edge
+	 * of the last one.
+	 */
+	private void mapColumnEdges() {
+
+		TableColumnModel columnModel = table.getColumnModel();
+		int viewColumnCount = columnModel.getColumnCount();
+
+		if (columnEdges.length <= viewColumnCount) {
+			columnEdges = new int[viewColumnCount + 1];
+		}
+
+		for (int i = 0; i < viewColumnCount; i++) {
+			columnEdges[i + 1] = columnEdges[i] + columnModel.getColumn(i).getWidth();
+		}
+	}
+
+	/**
+	 * Set <tt>cell</tt> to the bounds
+	 * {@link JTable#getCellRect(int, int, boolean)} returns with spacing,
+	 * computed without allocating one while the rows all have the same height.
+	 */
+	private void setCellBounds(int viewRow, int viewColumn, boolean isRowHeightVaried) {
+
+		int width = columnEdges[viewColumn + 1] - columnEdges[viewColumn];
+		int total = columnEdges[table.getColumnModel().getColumnCount()];
+
+		if (isRowHeightVaried) {
+			cell.setBounds(table.getCellRect(viewRow, viewColumn, true));
+		} else if (table.getComponentOrientation().isLeftToRight()) {
+			cell.setBounds(columnEdges[viewColumn], viewRow * table.getRowHeight(), width, table.getRowHeight());
+		} else {
+			cell.setBounds(total - columnEdges[viewColumn + 1], viewRow * table.getRowHeight(), width,
+					table.getRowHeight());
+		}
+	}
+
+	/**
+	 * Map the rows to their model rows and free the slots of rows that left
+	 * the model.
+	 */
+	private void mapModelRows() {
+
+		Iterator<Map.Entry<Object, Integer>> iterator = null;
+		Map.Entry<Object, Integer> entry = null;
+		int cell = 0;
+		int next = 0;
+
+		modelRows = new IdentityHashMap<>(model.getRowCount() * 2);
+
+		for (int i = model.getRowCount() - 1; i >= 0; i--) {
+			modelRows.put(model.getRow(i), i);
+		}
+
+		synchronized (this) {
+
+			iterator = slots.entrySet().iterator();
+
+			while (iterator.hasNext()) {
+
+				entry = iterator.next();
+				cell = entry.getValue() * columnCount;
+
+				if (!modelRows.containsKey(entry.getKey())) {
+
+					next = dirty.nextSetBit(cell);
+
+					if (next < 0 || next >= cell + columnCount) {
+
+						iterator.remove();
+						slotRows[entry.getValue()] = null;
+
+						if (freeCount == freeSlots.length) {
+							freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+						}
+
+						freeSlots[freeCount++] = entry.getValue();
+					}
+				}
+			}
+		}
+	}
+}
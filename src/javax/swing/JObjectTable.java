@@ -2,27 +2,38 @@ package javax.swing;
 
 import java.awt.BorderLayout;
 import java.awt.Component;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EventObject;
 import java.util.List;
-import java.util.Vector;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import javax.swing.cell.BoolCell;
-import javax.swing.cell.ButtonCell;
-import javax.swing.cell.NumberCell;
-import javax.swing.cell.OptionCell;
-import javax.swing.cell.TextCell;
+import javax.swing.cell.AbstractCell;
+import javax.swing.cell.CellFactoryRegistry;
+import javax.swing.cell.CellTextCache;
 import javax.swing.event.ChangeEvent;
-import javax.swing.table.DefaultTableModel;
+import javax.swing.event.ChangeListener;
 import javax.swing.table.TableCellEditor;
 import javax.swing.table.TableCellRenderer;
 import javax.swing.table.TableColumn;
+import javax.swing.table.object.ColumnActionEvent;
+import javax.swing.table.object.ColumnActionExecutor;
 import javax.swing.table.object.InvokableColumn;
-import javax.swing.table.object.editor.ObjectCellEditor;
-import javax.swing.table.object.editor.ObjectCellEditor.RequestListener;
+import javax.swing.table.object.InvokableColumnRegistry;
+import javax.swing.table.object.ObjectRowSorter;
+import javax.swing.table.object.ObjectTableModel;
+import javax.swing.table.object.PagedTableModel;
+import javax.swing.table.object.RowIndexMode;
+import javax.swing.table.object.RowObserver;
+import javax.swing.table.object.RowScanner;
+import javax.swing.table.object.RowSource;
+import javax.swing.table.object.RowUpdateQueue;
 
 /**
  * <p>{@link JTable} that supports generic types and objects.</p>
@@ -34,20 +45,104 @@ public class JObjectTable <T> extends JTable {
 	
 	private final Class<T> type;
 	private final List<InvokableColumn> invocableColumns;
-	private final String[] columnHeaders;
+	
+	/**
+	 * <tt>Cells are drawn by their cell painters</tt>
+	 */
+	private boolean isFastRendering;
+	
+	/**
+	 * Text drawn by the cell painters, see {@link CellTextCache}
+	 */
+	private final CellTextCache cellTextCache;
+	
+	/**
+	 * Painted row strips, <tt>null</tt> unless row strip caching is on
+	 */
+	private RowStripCache rowStripCache;
+	
+	/**
+	 * Creates the cells of the columns
+	 */
+	private CellFactoryRegistry cellFactoryRegistry;
+	
+	/**
+	 * Runs the concurrent actions of the columns
+	 */
+	private ColumnActionExecutor actionExecutor;
+	
+	/**
+	 * Repaints busy action cells, registered while the table is displayable
+	 */
+	private final ChangeListener actionListener = this::repaintAction;
+	
+	/**
+	 * Changes queued from other threads, created on first use
+	 */
+	private RowUpdateQueue<T> updateQueue;
+	
+	/**
+	 * Subscribed to the property change events of the rows, <tt>null</tt>
+	 * unless row observing is on
+	 */
+	private RowObserver<T> rowObserver;
+	
+	/**
+	 * Scans the rows for changes, <tt>null</tt> unless row scanning is on
+	 */
+	private RowScanner<T> rowScanner;
+	
+	/**
+	 * Cells ticking faster than they are drawn, <tt>null</tt> unless ticker
+	 * mode is on
+	 */
+	private volatile CellTicker cellTicker;
+	
+	/**
+	 * Most frames per second drawn in ticker mode
+	 */
+	private int tickerFrameRate = CellTicker.DEFAULT_FRAME_RATE;
+	
+	/**
+	 * Row sorters created sort big tables in the background
+	 */
+	private boolean isBackgroundSorting;
+	
+	/**
+	 * Rows were given heights of their own, see
+	 * {@link #setRowHeight(int, int)}
+	 */
+	private boolean isRowHeightVaried;
 	
 	/**
 	 * Empty constructor
 	 */
 	public JObjectTable(Class<T> type) {
+		this(type, new ObjectTableModel<T>(getColumnsFor(type)));
+	}
+	
+	/**
+	 * Virtual table, rows are loaded in pages from the source while
+	 * scrolling.
+	 * 
+	 * @param type
+	 *            - Table's operating type
+	 * @param source
+	 *            - Row source
+	 */
+	public JObjectTable(Class<T> type, RowSource<T> source) {
+		this(type, new PagedTableModel<T>(getColumnsFor(type), source));
+	}
+	
+	private JObjectTable(Class<T> type, ObjectTableModel<T> model) {
 		
-		if (type == null) {
-			throw new NullPointerException("Type cannot be null");
-		}
+		super(model);
 		
 		this.type = type;
-		this.invocableColumns = InvokableColumn.generateFor(type);
-		this.columnHeaders = createHeaders();
+		this.invocableColumns = getModel().getInvokableColumns();
+		this.cellTextCache = new CellTextCache();
+		this.cellFactoryRegistry = CellFactoryRegistry.getDefault();
+		this.actionExecutor = ColumnActionExecutor.getDefault();
 		
 		initialise();
 	}
@@ -55,15 +150,13 @@ public class JObjectTable <T> extends JTable {
 	@SuppressWarnings("unchecked")
 	public JObjectTable(Collection<T> collection) {
 		this((Class<T>) collection.iterator().next().getClass());
-		collection.forEach(this::addValue);
+		addValues(collection);
 	}
 	
 	@SuppressWarnings("unchecked")
 	public JObjectTable(T[] values) {
 		this((Class<T>) values.getClass().getComponentType());
-		for (T aValue : values) {
-			addValue(aValue);
-		}
+		addValues(Arrays.asList(values));
 	}
 	
 	@SuppressWarnings("unchecked")
@@ -74,16 +167,10 @@ public class JObjectTable <T> extends JTable {
 	
 	private final void initialise() {
 		
-		// 1. Set model
-		setModel(new CustomModel());
-		
-		// 2. Remove first column from view
-		removeColumn(getColumnModel().getColumn(0));
-		
-		// 3. Initialise editors for each of the columns
+		// 1. Initialise editors for each of the columns
 		List<TableColumn> columns = Collections.list(getColumnModel().getColumns());
 		
-		// 4. Assign each column with their respective invocable column
+		// 2. Assign each column with their respective invocable column
 		for (int i = 0; i < columns.size(); i++) {
 			columns.get(i).setIdentifier(invocableColumns.get(i));
 		}
@@ -92,145 +179,443 @@ public class JObjectTable <T> extends JTable {
 	}
 	
 	/**
-	 * 
-	 * <table>
-	 * 	
-	 * 	<tr>
-	 * 		<th>Data type</th>
-	 * 		<th>Cell type</th>
-	 * 	</tr>
-	 * 	<tr>
-	 * 		<td>boolean<br>{@link java.lang.Boolean}</td>
-	 * 		<td></td>
-	 * 	</tr>
-	 * 	<tr>
-	 * 		<td>byte<br>{@link java.lang.Byte}</td>
-	 * 		<td rowspan="6">{@link NumberCell}</td>
-	 * 	</tr>
-	 * 	<tr>
-	 * 		<td>short<br>{@link java.lang.Short}</td>
-	 * 	</tr>
-	 * 	<tr>
-	 * 		<td>double<br>{@link java.lang.Double}</td>
-	 * 	</tr>
-	 * 	<tr>
-	 * 		<td>int<br>{@link java.lang.Integer}</td>
-	 * 	</tr>
-	 * 	<tr>
-	 * 		<td>long<br>{@link java.lang.Long}</td>
-	 * 	</tr>
-	 * 	<tr>
-	 * 		<td>float<br>{@link java.lang.Float}</td>
-	 * 	</tr>
-	 * 	<tr>
-	 * 		<td>{@link java.lang.String}</td>
-	 * 		<td>{@link TextCell}</td>
-	 * 	</tr>
-	 * 	<tr>
-	 * 		<td></td>
-	 * 		<td></td>
-	 * 	</tr>
-	 * 	<tr>
-	 * 		<td></td>
-	 * 		<td></td>
-	 * 	</tr>
-	 * 	<tr>
-	 * 		<td></td>
-	 * 		<td></td>
-	 * 	</tr>
-	 * 	<tr>
-	 * 		<td></td>
-	 * 		<td></td>
-	 * 	</tr>
-	 * 	<tr>
-	 * 		<td></td>
-	 * 		<td></td>
-	 * 	</tr>
-	 * 	
-	 * </table>
-	 * 
+	 * Renderer from the {@link CellFactoryRegistry}, the editor is created
+	 * the first time the column is edited (see {@link #getCellEditor(int, int)}).
 	 * 
 	 * @param tableColumn
 	 */
-	@SuppressWarnings("unchecked")
-	private <Cell extends TableCellEditor & TableCellRenderer> void updateColumnEditorAndRenderer(TableColumn tableColumn) {
+	private void updateColumnEditorAndRenderer(TableColumn tableColumn) {
 		
 		InvokableColumn ic = null;
-		Class<?> type = null;
-		Cell cell = null;
 		
 		if (tableColumn == null) {
 			throw new NullPointerException();
 		}
 		
 		ic = (InvokableColumn) tableColumn.getIdentifier();
-		type = ic.getType();
 		
-		if (type.equals(boolean.class) || type.equals(Boolean.class)) {
-			
-			cell = (Cell) new BoolCell();
-			
-		} else if (type.equals(byte.class)
-				|| type.equals(short.class)
-				|| type.equals(int.class)
-				|| type.equals(long.class)
-				|| type.equals(float.class)
-				|| type.equals(double.class)
-				|| type.equals(Byte.class)
-				|| type.equals(Short.class)
-				|| type.equals(Integer.class)
-				|| type.equals(Long.class)
-				|| type.equals(Float.class)
-				|| type.equals(Double.class)) {
-			
-			
-			cell = (Cell) NumberCell.newInstance(ic);
-			
-		} else if (type.equals(String.class)) {
-			
-			cell = (Cell) new TextCell();
-			
-		} else if (type.isEnum()) {
-			
-			cell = (Cell) OptionCell.newInstance(type);
-			
-		} else if (type.isArray() || type.isInstance(Collection.class)) {
-			
-			
-			
-		} else if (type.equals(void.class) || type.equals(Runnable.class)) {
+		tableColumn.setCellRenderer(cellFactoryRegistry.getRenderer(this, ic));
+		tableColumn.setCellEditor(null);
+	}
+	
+	/**
+	 * Creates the editor of a column the first time it is edited.
+	 */
+	@Override
+	public TableCellEditor getCellEditor(int row, int column) {
+		
+		TableColumn tableColumn = getColumnModel().getColumn(column);
+		
+		if (tableColumn.getCellEditor() == null && tableColumn.getIdentifier() instanceof InvokableColumn) {
+			tableColumn.setCellEditor(
+					cellFactoryRegistry.createEditor(this, (InvokableColumn) tableColumn.getIdentifier()));
+		}
+		
+		return super.getCellEditor(row, column);
+	}
+	
+	/**
+	 * 
+	 * @return Executor running the concurrent actions of the columns
+	 */
+	public ColumnActionExecutor getActionExecutor() {
+		return actionExecutor;
+	}
+	
+	/**
+	 * 
+	 * @param actionExecutor
+	 *            - Executor running the concurrent actions of the columns,
+	 *            {@link ColumnActionExecutor#getDefault()} by default
+	 */
+	public void setActionExecutor(ColumnActionExecutor actionExecutor) {
+		
+		if (actionExecutor == null) {
+			throw new NullPointerException("Executor cannot be null");
+		}
+		
+		if (isDisplayable()) {
+			this.actionExecutor.removeChangeListener(actionListener);
+			actionExecutor.addChangeListener(actionListener);
+		}
+		
+		this.actionExecutor = actionExecutor;
+		
+		repaintActions();
+	}
+	
+	/**
+	 * Repaint the busy state of the action cells, which the row strips do not
+	 * track.
+	 */
+	private void repaintActions() {
+		
+		if (rowStripCache != null) {
+			rowStripCache.clear();
+		}
+		
+		repaint();
+	}
+	
+	/**
+	 * Repaint the action cell of the row whose action started or stopped, and
+	 * of the rows equal to it, or every action cell when the event does not
+	 * say which row (or a paged model cannot look it up).
+	 */
+	private void repaintAction(ChangeEvent event) {
+		
+		ColumnActionEvent actionEvent = null;
+		int column = -1;
+		int viewColumn = -1;
+		int viewRow = -1;
+		
+		if (!(event instanceof ColumnActionEvent) || getModel() instanceof PagedTableModel) {
 			
-			cell = (Cell) new ButtonCell();
+			repaintActions();
 			
 		} else {
 			
-			cell = (Cell) new ObjectCellEditor(this);
+			actionEvent = (ColumnActionEvent) event;
+			column = getModel().getInvokableColumns().indexOf(actionEvent.getInvokableColumn());
 			
-			((ObjectCellEditor) cell).addRequestListener(new RequestListener() {
+			// Ignored unless it is a column of this table
+			if (column >= 0) {
 				
-				@Override
-				public final void requestRecieved(String request, int row, int column, InvokableColumn invocableColumn, Object instance) {
+				viewColumn = convertColumnIndexToView(column);
+				
+				for (int row : getModel().indicesOf(actionEvent.getRow())) {
 					
-					switch (request) {
+					viewRow = convertRowIndexToView(row);
 					
-					case "CREATE":
-						break;
+					if (viewRow >= 0) {
 						
-					case "EDIT":
-						show(JObjectTable.this, instance.getClass(), new Object[] {instance});
-						break;
+						if (rowStripCache != null) {
+							rowStripCache.invalidateRows(viewRow, viewRow);
+						}
 						
-					case "DELETE":
-						break;
-					
+						if (viewColumn >= 0) {
+							repaint(getCellRect(viewRow, viewColumn, true));
+						}
 					}
 				}
-			});
+			}
+		}
+	}
+	
+	@Override
+	public void addNotify() {
+		
+		super.addNotify();
+		
+		actionExecutor.addChangeListener(actionListener);
+		
+		if (rowScanner != null) {
+			rowScanner.start();
+		}
+	}
+	
+	@Override
+	public void removeNotify() {
+		
+		actionExecutor.removeChangeListener(actionListener);
+		
+		if (rowScanner != null) {
+			rowScanner.stop();
+		}
+		
+		super.removeNotify();
+	}
+	
+	/**
+	 * 
+	 * @return Registry creating the cells of this table
+	 */
+	public CellFactoryRegistry getCellFactoryRegistry() {
+		return cellFactoryRegistry;
+	}
+	
+	/**
+	 * Recreate the cells of every column with another registry.
+	 * 
+	 * @param cellFactoryRegistry
+	 *            - Registry creating the cells of this table
+	 */
+	public void setCellFactoryRegistry(CellFactoryRegistry cellFactoryRegistry) {
+		
+		if (cellFactoryRegistry == null) {
+			throw new NullPointerException("Registry cannot be null");
+		}
+		
+		if (isEditing()) {
+			getCellEditor().cancelCellEditing();
+		}
+		
+		this.cellFactoryRegistry = cellFactoryRegistry;
+		
+		Collections.list(getColumnModel().getColumns()).forEach(this::updateColumnEditorAndRenderer);
+		
+		repaint();
+	}
+	
+	/**
+	 * Also refreshes the cached Look and Feel state of the {@link AbstractCell}
+	 * renderers and editors, which {@link JTable#updateUI()} does not reach as
+	 * they are not components themselves.
+	 */
+	@Override
+	public void updateUI() {
+		
+		super.updateUI();
+		
+		// Also called by the JTable constructor, before this is initialised
+		if (cellTextCache != null) {
+			cellTextCache.clear();
+		}
+		
+		if (getColumnModel() != null) {
+			
+			for (TableColumn tableColumn : Collections.list(getColumnModel().getColumns())) {
+				
+				if (tableColumn.getCellRenderer() instanceof AbstractCell) {
+					((AbstractCell<?, ?>) tableColumn.getCellRenderer()).updateUI();
+				}
+				
+				if (tableColumn.getCellEditor() instanceof AbstractCell
+						&& tableColumn.getCellEditor() != tableColumn.getCellRenderer()) {
+					((AbstractCell<?, ?>) tableColumn.getCellEditor()).updateUI();
+				}
+			}
+		}
+	}
+	
+	@Override
+	public void setFont(Font font) {
+		
+		super.setFont(font);
+		
+		if (cellTextCache != null) {
+			cellTextCache.clear();
+		}
+	}
+	
+	/**
+	 * 
+	 * @return Cache of the text drawn by the cell painters in fast rendering
+	 *         mode
+	 */
+	public CellTextCache getCellTextCache() {
+		return cellTextCache;
+	}
+	
+	/**
+	 * 
+	 * @return <tt>Cells are drawn by their cell painters</tt>
+	 */
+	public boolean isFastRendering() {
+		return isFastRendering;
+	}
+	
+	/**
+	 * Draw view cells with lightweight painters that look like the spinner,
+	 * combo box or text field of the cell instead of painting those
+	 * components, see {@link AbstractCell#setFastRendering(boolean)}. The cell
+	 * being edited still uses the full component. Only affects this table,
+	 * even though its cells may be shared.
+	 * 
+	 * @param isFastRendering
+	 *            - <tt>Draw cells with their cell painters</tt>
+	 */
+	public void setFastRendering(boolean isFastRendering) {
+		
+		boolean oldValue = this.isFastRendering;
+		
+		this.isFastRendering = isFastRendering;
+		
+		firePropertyChange("fastRendering", oldValue, isFastRendering);
+		repaint();
+	}
+	
+	/**
+	 * 
+	 * @return <tt>Painted rows are cached as images</tt>
+	 */
+	public boolean isRowStripCaching() {
+		return rowStripCache != null;
+	}
+	
+	/**
+	 * <p>
+	 * Cache painted strips of rows as off-screen images for the visible rows
+	 * plus a lookahead margin, so scrolling draws the cached strips and only
+	 * paints rows that were not painted yet.
+	 * </p>
+	 * <p>
+	 * Strips are invalidated for the rows named by update events of the model
+	 * (e.g. <tt>fireTableRowsUpdated</tt> or <tt>fireTableCellUpdated</tt>)
+	 * and for rows whose selection changed. Costs roughly four bytes per
+	 * visible pixel for each cached strip, so it is off by default.
+	 * </p>
+	 * 
+	 * @param isRowStripCaching
+	 *            - <tt>Cache painted rows as images</tt>
+	 */
+	public void setRowStripCaching(boolean isRowStripCaching) {
+		
+		if (isRowStripCaching && rowStripCache == null) {
+			
+			rowStripCache = new RowStripCache(this, RowStripCache.DEFAULT_LOOKAHEAD);
+			rowStripCache.install();
+			
+		} else if (!isRowStripCaching && rowStripCache != null) {
+			
+			rowStripCache.uninstall();
+			rowStripCache = null;
+		}
+		
+		repaint();
+	}
+	
+	/**
+	 * 
+	 * @return Row strip cache, <tt>null</tt> unless row strip caching is on
+	 */
+	RowStripCache getRowStripCache() {
+		return rowStripCache;
+	}
+	
+	@Override
+	public void setRowHeight(int rowHeight) {
+		
+		super.setRowHeight(rowHeight);
+		
+		isRowHeightVaried = false;
+	}
+	
+	@Override
+	public void setRowHeight(int row, int rowHeight) {
+		
+		super.setRowHeight(row, rowHeight);
+		
+		isRowHeightVaried = true;
+	}
+	
+	/**
+	 * 
+	 * @return <tt>Rows may not all have the same height</tt>
+	 */
+	boolean isRowHeightVaried() {
+		return isRowHeightVaried;
+	}
+	
+	/**
+	 * 
+	 * @return <tt>Ticks are drawn at most once per frame</tt>
+	 */
+	public boolean isTickerMode() {
+		return cellTicker != null;
+	}
+	
+	/**
+	 * <p>
+	 * For cells changing thousands of times per second (e.g. market data or
+	 * telemetry), see {@link #tick(Object, String, Object)}.
+	 * </p>
+	 * <p>
+	 * Ticked cells are marked dirty in a bitset and only their latest value is
+	 * kept. At most {@link #getTickerFrameRate()} times per second the dirty
+	 * cells are written to the model without firing model events, and only
+	 * the visible ones are repainted. Since no events are fired, the row
+	 * sorter does not re-sort or re-filter on ticks.
+	 * </p>
+	 * 
+	 * @param isTickerMode
+	 *            - <tt>Draw ticks at most once per frame</tt>
+	 */
+	public void setTickerMode(boolean isTickerMode) {
+		
+		CellTicker ticker = null;
+		
+		if (isTickerMode && cellTicker == null) {
+			
+			ticker = new CellTicker(this, tickerFrameRate);
+			ticker.install();
+			cellTicker = ticker;
+			
+		} else if (!isTickerMode && cellTicker != null) {
+			
+			ticker = cellTicker;
+			cellTicker = null;
+			ticker.uninstall();
+		}
+	}
+	
+	/**
+	 * 
+	 * @return Most frames per second drawn in ticker mode
+	 */
+	public int getTickerFrameRate() {
+		return tickerFrameRate;
+	}
+	
+	/**
+	 * 
+	 * @param tickerFrameRate
+	 *            - Most frames per second drawn in ticker mode, 30 by default
+	 */
+	public void setTickerFrameRate(int tickerFrameRate) {
+		
+		if (tickerFrameRate < 1) {
+			throw new IllegalArgumentException("Frame rate must be positive");
 		}
 		
-		if (cell != null) {
-			tableColumn.setCellEditor(cell);
-			tableColumn.setCellRenderer(cell);
+		this.tickerFrameRate = tickerFrameRate;
+		
+		if (cellTicker != null) {
+			cellTicker.setFrameRate(tickerFrameRate);
+		}
+	}
+	
+	/**
+	 * Set the value of a cell from any thread. In ticker mode it is drawn
+	 * with the next frame, otherwise it goes through the
+	 * {@link #getUpdateQueue() update queue}.
+	 * 
+	 * @param aValue
+	 *            - Row
+	 * @param columnName
+	 *            - Name of the column
+	 * @param cellValue
+	 *            - New value of the cell
+	 */
+	public void tick(T aValue, String columnName, Object cellValue) {
+		
+		CellTicker ticker = cellTicker;
+		
+		if (ticker != null) {
+			ticker.tick(aValue, ticker.findColumn(columnName), cellValue);
+		} else {
+			getUpdateQueue().setValue(aValue, columnName, cellValue);
+		}
+	}
+	
+	/**
+	 * 
+	 * @return Ticks replaced by a later tick of the same cell before being
+	 *         drawn, or whose row was no longer in the table, since ticker
+	 *         mode was turned on
+	 */
+	public long getDroppedTickCount() {
+		
+		CellTicker ticker = cellTicker;
+		
+		return (ticker == null ? 0 : ticker.getDroppedCount());
+	}
+	
+	@Override
+	protected void paintComponent(Graphics g) {
+		
+		if (rowStripCache == null || !rowStripCache.paint(g, super::paintComponent)) {
+			super.paintComponent(g);
 		}
 	}
 	
@@ -242,10 +627,25 @@ public class JObjectTable <T> extends JTable {
 		
 		Component result = null;
 		
+		boolean isSelected = false;
+		boolean hasFocus = false;
+		
 		if (type.equals(void.class) || type.equals(Runnable.class)) {
 			
 			result = renderer.getTableCellRendererComponent(this, null, false, false, row, column);
 			
+		} else if (renderer instanceof AbstractCell && !((AbstractCell<?, ?>) renderer).isValueRequired(invokableColumn)) {
+			
+			// Same as JTable, minus getValueAt (the cell reads primitives itself)
+			if (!isPaintingForPrint()) {
+				isSelected = isCellSelected(row, column);
+				hasFocus = getSelectionModel().getLeadSelectionIndex() == row
+						&& getColumnModel().getSelectionModel().getLeadSelectionIndex() == column
+						&& isFocusOwner();
+			}
+			
+			result = renderer.getTableCellRendererComponent(this, null, isSelected, hasFocus, row, column);
+			
 		} else {
 			
 			result = super.prepareRenderer(renderer, row, column);
@@ -254,6 +654,22 @@ public class JObjectTable <T> extends JTable {
 		return result;
 	}
 	
+	/**
+	 * Rows of a {@link PagedTableModel} cannot be edited until their page is
+	 * loaded.
+	 */
+	@Override
+	public boolean editCellAt(int row, int column, EventObject e) {
+		
+		boolean result = false;
+		
+		if (row >= 0 && row < getRowCount() && getValueAt(row) != null) {
+			result = super.editCellAt(row, column, e);
+		}
+		
+		return result;
+	}
+	
 	@Override
 	public Component prepareEditor(TableCellEditor editor, int row, int column) {
 		
@@ -289,9 +705,53 @@ public class JObjectTable <T> extends JTable {
 		return type;
 	}
 	
+	/**
+	 * The row sorter created is an {@link ObjectRowSorter}, which reads each
+	 * sort key once per row instead of comparing boxed cell values (paged
+	 * tables keep the default sorter).
+	 */
+	@Override
+	public void setAutoCreateRowSorter(boolean autoCreateRowSorter) {
+		
+		super.setAutoCreateRowSorter(autoCreateRowSorter);
+		
+		if (autoCreateRowSorter && !(getModel() instanceof PagedTableModel)) {
+			setRowSorter(new ObjectRowSorter<>(getModel()));
+			setBackgroundSorting(isBackgroundSorting);
+		}
+	}
+	
+	/**
+	 * 
+	 * @return <tt>Big tables are sorted in the background</tt>
+	 */
+	public boolean isBackgroundSorting() {
+		return isBackgroundSorting;
+	}
+	
+	/**
+	 * Sort big tables on the shared background executor of
+	 * {@link ObjectRowSorter#getDefaultExecutor()}, the previous order staying
+	 * on screen until the new one is ready. Applies to the
+	 * {@link ObjectRowSorter} of the table and the ones created from now on.
+	 * 
+	 * @param isBackgroundSorting
+	 *            - <tt>Sort big tables in the background</tt>
+	 */
+	public void setBackgroundSorting(boolean isBackgroundSorting) {
+		
+		this.isBackgroundSorting = isBackgroundSorting;
+		
+		if (getRowSorter() instanceof ObjectRowSorter) {
+			((ObjectRowSorter<?>) getRowSorter())
+					.setExecutor(isBackgroundSorting ? ObjectRowSorter.getDefaultExecutor() : null);
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
 	@Override
-	public DefaultTableModel getModel() {
-		return (DefaultTableModel) super.getModel();
+	public ObjectTableModel<T> getModel() {
+		return (ObjectTableModel<T>) super.getModel();
 	}
 	
 	/**
@@ -302,8 +762,9 @@ public class JObjectTable <T> extends JTable {
 	public final void setValueAt(Object aValue, int row, int column) {
 		
 		InvokableColumn invokableColumn = null;
-		Object rowObjInstance = null;
 		boolean required = false;
+		int modelRow = 0;
+		int modelColumn = 0;
 		
 		if (row < 0) {
 			throw new IndexOutOfBoundsException("Row cannot be lesser than 0");
@@ -313,15 +774,24 @@ public class JObjectTable <T> extends JTable {
 			
 			invokableColumn = getInvokableColumn(column);
 			required = invokableColumn.getColumn().required();
+			modelRow = convertRowIndexToModel(row);
+			modelColumn = convertColumnIndexToModel(column);
 
 			if (required && aValue == null) {
 
 				JOptionPane.showMessageDialog(this, "Please enter a value", "Error", JOptionPane.ERROR_MESSAGE);
 
+			} else if (!getModel().isKeyAvailable(modelColumn, aValue, modelRow)) {
+
+				JOptionPane.showMessageDialog(this, "Please enter a unique value", "Error", JOptionPane.ERROR_MESSAGE);
+
 			} else {
 
-				rowObjInstance = getModel().getValueAt(row, 0);
-				invokableColumn.setValue(rowObjInstance, aValue);
+				getModel().setValueAt(aValue, modelRow, modelColumn);
+				
+				if (cellTextCache != null) {
+					cellTextCache.invalidate(invokableColumn);
+				}
 			}
 		}
 	}
@@ -335,7 +805,7 @@ public class JObjectTable <T> extends JTable {
 
 		if (row >= 0 && column >= 0) {
 			
-			rowObjInstance = getModel().getValueAt(row, 0);
+			rowObjInstance = getValueAt(row);
 			invokableColumn = getInvokableColumn(column);
 			value = invokableColumn.getValue(rowObjInstance);
 		}
@@ -343,6 +813,17 @@ public class JObjectTable <T> extends JTable {
 		return value;
 	}
 
+	/**
+	 * To simplify getting objects from the table.
+	 * 
+	 * @param row
+	 *            - Row index (for view)
+	 * @return Object at that row
+	 */
+	public T getValueAt(int row) {
+		return getModel().getRow(convertRowIndexToModel(row));
+	}
+
 	/**
 	 * To simplify setting objects in the table.
 	 * 
@@ -352,7 +833,7 @@ public class JObjectTable <T> extends JTable {
 	 *            - Row to set the value at
 	 */
 	public void setValueAt(T aValue, int row) {
-		super.setValueAt(aValue, row, 0);
+		getModel().setRow(convertRowIndexToModel(row), aValue);
 	}
 
 	/**
@@ -367,7 +848,202 @@ public class JObjectTable <T> extends JTable {
 			throw new NullPointerException("No value supplied");
 		}
 		
-		getModel().addRow(new Object[] { aValue });
+		getModel().addRow(aValue);
+	}
+	
+	/**
+	 * Add values to table, firing a single event.
+	 * 
+	 * @param values
+	 *            - any values
+	 */
+	public void addValues(Collection<? extends T> values) {
+		getModel().addRows(values);
+	}
+	
+	/**
+	 * Replace all values in table, firing a single event.
+	 * 
+	 * @param values
+	 *            - any values
+	 */
+	public void setValues(Collection<? extends T> values) {
+		getModel().setRows(values);
+	}
+	
+	/**
+	 * Remove values from table, firing a single event.
+	 * 
+	 * Note: All matching values!
+	 * 
+	 * @param values
+	 *            - any values
+	 */
+	public void removeValues(Collection<? extends T> values) {
+		
+		if (values == null) {
+			throw new NullPointerException("No values supplied");
+		}
+		
+		getModel().removeRows(values);
+	}
+	
+	/**
+	 * Queue of row inserts, updates and removals that may be used from any
+	 * thread, drained onto the event dispatch thread once per frame with the
+	 * fewest table events (see {@link RowUpdateQueue}). The mutators of the
+	 * table itself must be called on the event dispatch thread. Not supported
+	 * by tables of a {@link PagedTableModel}.
+	 * 
+	 * @return Update queue of this table
+	 */
+	public synchronized RowUpdateQueue<T> getUpdateQueue() {
+		
+		if (updateQueue == null) {
+			updateQueue = new RowUpdateQueue<>(getModel());
+		}
+		
+		return updateQueue;
+	}
+	
+	/**
+	 * 
+	 * @return <tt>Rows are refreshed from their property change events</tt>
+	 */
+	public boolean isRowObserving() {
+		return rowObserver != null;
+	}
+	
+	/**
+	 * Subscribe to the property change events of rows that implement
+	 * {@link javax.swing.table.object.ObservableRow} or have
+	 * <tt>addPropertyChangeListener</tt> methods, refreshing exactly the cells
+	 * that changed when rows are mutated outside the table (see
+	 * {@link RowObserver}). Not supported by tables of a
+	 * {@link PagedTableModel}, whose rows are loaded on demand.
+	 * 
+	 * @param isRowObserving
+	 *            - <tt>Refresh rows from their property change events</tt>
+	 */
+	public void setRowObserving(boolean isRowObserving) {
+		
+		if (isRowObserving && rowObserver == null) {
+			
+			rowObserver = new RowObserver<>(getModel(), getUpdateQueue());
+			rowObserver.install();
+			
+		} else if (!isRowObserving && rowObserver != null) {
+			
+			rowObserver.uninstall();
+			rowObserver = null;
+		}
+	}
+	
+	/**
+	 * 
+	 * @return <tt>Rows are scanned for changes in the background</tt>
+	 */
+	public boolean isRowScanning() {
+		return rowScanner != null;
+	}
+	
+	/**
+	 * Scan rows without change events (plain objects mutated outside the
+	 * table) in the background and refresh the rows whose values changed, the
+	 * visible rows first (see {@link RowScanner}). Scanning pauses while the
+	 * table is not displayable.
+	 * 
+	 * @param isRowScanning
+	 *            - <tt>Scan rows for changes in the background</tt>
+	 */
+	public void setRowScanning(boolean isRowScanning) {
+		
+		if (isRowScanning && rowScanner == null) {
+			
+			rowScanner = new RowScanner<>(getModel(), getUpdateQueue(), this::getVisibleModelRows);
+			
+			// Otherwise started by addNotify
+			if (isDisplayable()) {
+				rowScanner.start();
+			}
+			
+		} else if (!isRowScanning && rowScanner != null) {
+			
+			rowScanner.stop();
+			rowScanner = null;
+		}
+	}
+	
+	/**
+	 * 
+	 * @return Background row scanner, to set its interval and CPU budget, or
+	 *         <tt>null</tt> unless row scanning is on
+	 */
+	public RowScanner<T> getRowScanner() {
+		return rowScanner;
+	}
+	
+	/**
+	 * 
+	 * @return Rows (for model) of the visible rows
+	 */
+	private int[] getVisibleModelRows() {
+		
+		Rectangle visible = getVisibleRect();
+		int first = rowAtPoint(visible.getLocation());
+		int last = rowAtPoint(new Point(visible.x, visible.y + visible.height - 1));
+		int[] result = null;
+		
+		if (first < 0) {
+			
+			result = new int[0];
+			
+		} else {
+			
+			if (last < 0) {
+				last = getRowCount() - 1;
+			}
+			
+			result = new int[last - first + 1];
+			
+			for (int i = first; i <= last; i++) {
+				result[i - first] = convertRowIndexToModel(i);
+			}
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Use a unique column as the row key for {@link #upsert(Object)} and
+	 * {@link #replaceAll(Collection)}.
+	 * 
+	 * @param columnName
+	 *            - Name of a unique column, or <tt>null</tt>
+	 */
+	public void setKeyColumn(String columnName) {
+		getModel().setKeyColumn(columnName);
+	}
+	
+	/**
+	 * Replace the value with the same key, or add it when the key is new.
+	 * 
+	 * @param aValue
+	 *            - any value
+	 */
+	public void upsert(T aValue) {
+		getModel().upsert(aValue);
+	}
+	
+	/**
+	 * Refresh table from a snapshot, only firing events for rows that were
+	 * inserted, changed or deleted.
+	 * 
+	 * @param values
+	 *            - Complete, current set of values
+	 */
+	public void replaceAll(Collection<? extends T> values) {
+		getModel().replaceAll(values);
 	}
 	
 	/**
@@ -397,21 +1073,66 @@ public class JObjectTable <T> extends JTable {
 	 */
 	public void removeValue(T aValue) {
 		
-		Object firstValue = null;
+		if (aValue == null) {
+			throw new NullPointerException("No value supplied");
+		}
+		
+		getModel().removeAll(aValue);
+	}
+	
+	/**
+	 * Find value in table. With a row index (see
+	 * {@link ObjectTableModel#setRowIndexMode}) this is a hash lookup, except
+	 * after rows were inserted or removed before the end: the first lookup of
+	 * a row after them recomputes the positions from the first row shifted,
+	 * and an {@link RowIndexMode#EQUALITY} index is rebuilt after a cell edit.
+	 * 
+	 * @param aValue
+	 *            - any value
+	 * @return First row index (for view), or -1
+	 */
+	public int indexOf(T aValue) {
+		
+		int row = -1;
 		
 		if (aValue == null) {
 			throw new NullPointerException("No value supplied");
 		}
 		
-		for (int i = getModel().getRowCount()  - 1; i >= 0; i--) {
-			
-			firstValue = getModel().getValueAt(i, 0);
-			
-			if (aValue.equals(firstValue)) {
-				
-				removeValue(i);
-			}
+		row = getModel().indexOf(aValue);
+		
+		return row < 0 ? row : convertRowIndexToView(row);
+	}
+	
+	/**
+	 * Find value by the value of a unique column, without scanning the table.
+	 * 
+	 * @param columnName
+	 *            - Name of a unique column
+	 * @param key
+	 *            - Column value
+	 * @return Value holding the key, or <tt>null</tt>
+	 */
+	public T findByKey(String columnName, Object key) {
+		return getModel().findByKey(columnName, key);
+	}
+	
+	/**
+	 * A hash lookup when the model has a row index (see
+	 * {@link ObjectTableModel#setRowIndexMode}), unless an
+	 * {@link RowIndexMode#EQUALITY} index must be rebuilt after a cell edit.
+	 * 
+	 * @param aValue
+	 *            - any value
+	 * @return <tt>Value is in table</tt>
+	 */
+	public boolean contains(T aValue) {
+		
+		if (aValue == null) {
+			throw new NullPointerException("No value supplied");
 		}
+		
+		return getModel().contains(aValue);
 	}
 	
 	/**
@@ -419,9 +1140,8 @@ public class JObjectTable <T> extends JTable {
 	 * 
 	 * @return Value stream
 	 */
-	@SuppressWarnings("unchecked")
 	public final Stream<T> getValueStream() {
-		return getModel().getDataVector().stream().map(data -> Vector.class.cast(data).elementAt(0));
+		return getModel().getRows().stream();
 	}
 	
 	/**
@@ -430,16 +1150,7 @@ public class JObjectTable <T> extends JTable {
 	 * @return List of values.
 	 */
 	public final List<T> getValues() {
-		return getValueStream().collect(Collectors.toList());
-	}
-	
-	/**
-	 * Create array containing column headers.
-	 * 
-	 * @return Array of column names.
-	 */
-	private final String[] createHeaders() {
-		return invocableColumns.stream().map(InvokableColumn::name).toArray(String[]::new);
+		return new ArrayList<>(getModel().getRows());
 	}
 	
 	/**
@@ -476,18 +1187,19 @@ public class JObjectTable <T> extends JTable {
 	 */
 	
 	/**
-	 * "Un-shifts" an empty string to the start of a string array.
+	 * Columns for the table's type, checked before the model is created.
 	 * 
-	 * @param columnHeaders
-	 *            - String array
-	 * @return New array with a new first element
+	 * @param type
+	 *            - Table's operating type
+	 * @return Cached columns for that type
 	 */
-	private static final String[] insertHiddenColumn(String[] columnHeaders) {
-		String[] result = null;
-		result = new String[columnHeaders.length + 1];
-		System.arraycopy(columnHeaders, 0, result, 1, columnHeaders.length);
-		result[0] = "";
-		return result;
+	private static final List<InvokableColumn> getColumnsFor(Class<?> type) {
+		
+		if (type == null) {
+			throw new NullPointerException("Type cannot be null");
+		}
+		
+		return InvokableColumnRegistry.getColumns(type);
 	}
 
 	/**
@@ -506,7 +1218,7 @@ public class JObjectTable <T> extends JTable {
 		
 		JObjectTable objectTable = new JObjectTable<>(type);
 		objectTable.getTableHeader().setResizingAllowed(false);
-		Arrays.asList(values).forEach(objectTable::addValue);
+		objectTable.addValues(Arrays.asList(values));
 		
 		JScrollPane scrollPane = new JScrollPane(objectTable, JScrollPane.VERTICAL_SCROLLBAR_ALWAYS,
 				JScrollPane.HORIZONTAL_SCROLLBAR_ALWAYS);
@@ -519,20 +1231,4 @@ public class JObjectTable <T> extends JTable {
 		return (JObjectTable<T>) objectTable;
 	}
 	
-	/*
-	 * OTHER CLASSES
-	 */
-	
-	public final class CustomModel extends DefaultTableModel {
-		
-		/**
-		 * 
-		 */
-		private static final long serialVersionUID = 1L;
-		
-		public CustomModel() {
-			super(insertHiddenColumn(columnHeaders), 0);
-		}
-	}
-	
 }
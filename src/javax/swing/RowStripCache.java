@@ -0,0 +1,548 @@
+package javax.swing;
+
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.Shape;
+import java.awt.Transparency;
+import java.awt.event.FocusEvent;
+import java.awt.event.FocusListener;
+import java.awt.image.BufferedImage;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ListSelectionEvent;
+import javax.swing.event.ListSelectionListener;
+import javax.swing.event.RowSorterEvent;
+import javax.swing.event.RowSorterListener;
+import javax.swing.event.TableColumnModelEvent;
+import javax.swing.event.TableColumnModelListener;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.table.TableColumnModel;
+import javax.swing.table.TableModel;
+
+/**
+ * <p>
+ * Off-screen images of painted row strips for
+ * {@link JObjectTable#setRowStripCaching(boolean)}.
+ * </p>
+ * <p>
+ * Strips of {@link #STRIP_ROWS} rows are painted once, as wide as the visible
+ * part of the table, and drawn as images afterwards, so scrolling only paints
+ * rows that have not been painted yet. Strips of the visible rows plus a
+ * lookahead margin above and below are kept, and the margin is painted ahead
+ * of time when the event queue is idle.
+ * </p>
+ * <p>
+ * Rows named by an update event of the model and rows whose selection changed
+ * are invalidated precisely. Anything else that changes how the table looks
+ * (structure, sorting, columns, properties) clears every strip.
+ * </p>
+ *
+ * @author Antony Hixson
+ *
+ */
+final class RowStripCache implements TableModelListener, ListSelectionListener, TableColumnModelListener,
+		RowSorterListener, FocusListener, PropertyChangeListener {
+
+	/**
+	 * Rows per strip
+	 */
+	static final int STRIP_ROWS = 16;
+
+	/**
+	 * Default strips kept above and below the visible rows
+	 */
+	static final int DEFAULT_LOOKAHEAD = 2;
+
+	private final JTable table;
+	private final int lookahead;
+	private final Map<Integer, Strip> strips;
+
+	/**
+	 * What the strips were painted for
+	 */
+	private int x;
+	private int width;
+	private double scale;
+
+	/**
+	 * Listened to, replaced when the table's are
+	 */
+	private TableModel model;
+	private ListSelectionModel selectionModel;
+	private TableColumnModel columnModel;
+	private RowSorter<?> rowSorter;
+
+	/**
+	 * <tt>Lookahead strips are going to be painted</tt>
+	 */
+	private boolean isPrefetchPending;
+
+	/**
+	 * Reused while painting
+	 */
+	private final Rectangle clip;
+	private final Point point;
+
+	RowStripCache(JTable table, int lookahead) {
+
+		if (table == null) {
+			throw new NullPointerException("Table cannot be null");
+		} else if (lookahead < 0) {
+			throw new IllegalArgumentException("Lookahead cannot be negative");
+		}
+
+		this.table = table;
+		this.lookahead = lookahead;
+		this.strips = new HashMap<>();
+		this.clip = new Rectangle();
+		this.point = new Point();
+	}
+
+	void install() {
+
+		table.addFocusListener(this);
+		table.addPropertyChangeListener(this);
+
+		listen();
+	}
+
+	void uninstall() {
+
+		table.removeFocusListener(this);
+		table.removePropertyChangeListener(this);
+
+		unlisten();
+		clear();
+	}
+
+	private void listen() {
+
+		model = table.getModel();
+		selectionModel = table.getSelectionModel();
+		columnModel = table.getColumnModel();
+		rowSorter = table.getRowSorter();
+
+		model.addTableModelListener(this);
+		selectionModel.addListSelectionListener(this);
+		columnModel.addColumnModelListener(this);
+
+		if (rowSorter != null) {
+			rowSorter.addRowSorterListener(this);
+		}
+	}
+
+	private void unlisten() {
+
+		model.removeTableModelListener(this);
+		selectionModel.removeListSelectionListener(this);
+		columnModel.removeColumnModelListener(this);
+
+		if (rowSorter != null) {
+			rowSorter.removeRowSorterListener(this);
+		}
+	}
+
+	/**
+	 * Drop every strip.
+	 */
+	void clear() {
+
+		for (Strip strip : strips.values()) {
+			strip.image.flush();
+		}
+
+		strips.clear();
+	}
+
+	/**
+	 * Drop the strips holding a range of view rows.
+	 *
+	 * @param firstRow
+	 *            - First view row
+	 * @param lastRow
+	 *            - Last view row, inclusive
+	 */
+	void invalidateRows(int firstRow, int lastRow) {
+
+		Strip strip = null;
+
+		if (firstRow < 0) {
+			firstRow = 0;
+		}
+
+		for (int i = firstRow / STRIP_ROWS; i <= lastRow / STRIP_ROWS && !strips.isEmpty(); i++) {
+
+			strip = strips.remove(i);
+
+			if (strip != null) {
+				strip.image.flush();
+			}
+		}
+	}
+
+	/**
+	 * Paint the table from the strips, painting the strips that are missing.
+	 *
+	 * @param g
+	 *            - Graphics of the table
+	 * @param painter
+	 *            - Paints the table the usual way
+	 * @return <tt>Table was painted</tt>, otherwise the caller has to paint it
+	 */
+	boolean paint(Graphics g, Consumer<Graphics> painter) {
+
+		Rectangle visible = null;
+		Rectangle last = null;
+		double scale = 0D;
+		int rowCount = table.getRowCount();
+		int firstRow = 0;
+		int lastRow = 0;
+		int bottom = 0;
+		Strip strip = null;
+		Shape oldClip = null;
+
+		if (!(g instanceof Graphics2D) || rowCount == 0 || table.isPaintingForPrint()
+				|| table.getDropLocation() != null) {
+			return false;
+		}
+
+		visible = table.getVisibleRect();
+		scale = ((Graphics2D) g).getTransform().getScaleX();
+
+		if (visible.x != x || visible.width != width || scale != this.scale) {
+
+			clear();
+
+			this.x = visible.x;
+			this.width = visible.width;
+			this.scale = scale;
+		}
+
+		clip.setBounds(0, 0, table.getWidth(), table.getHeight());
+		g.getClipBounds(clip);
+
+		if (clip.x < x || clip.x + clip.width > x + width || width <= 0) {
+			return false;
+		}
+
+		// Nothing but background below the last row
+		last = table.getCellRect(rowCount - 1, 0, true);
+
+		if (clip.y >= last.y + last.height) {
+			return false;
+		}
+
+		firstRow = rowAt(clip.y, 0);
+		lastRow = rowAt(clip.y + clip.height - 1, rowCount - 1);
+
+		for (int i = firstRow / STRIP_ROWS; i <= lastRow / STRIP_ROWS; i++) {
+
+			strip = getStrip(i, rowCount, painter);
+
+			g.drawImage(strip.image, x, strip.y, width, strip.height, null);
+		}
+
+		// Background below the last row, e.g. when filling the viewport
+		bottom = strip.y + strip.height;
+
+		if (clip.y + clip.height > bottom) {
+
+			oldClip = g.getClip();
+
+			g.clipRect(clip.x, bottom, clip.width, clip.y + clip.height - bottom);
+			painter.accept(g);
+			g.setClip(oldClip);
+		}
+
+		retain(visible, rowCount, painter);
+
+		return true;
+	}
+
+	private int rowAt(int y, int defaultRow) {
+
+		int row = 0;
+
+		point.setLocation(x, y);
+
+		row = table.rowAtPoint(point);
+
+		return (row < 0 ? defaultRow : row);
+	}
+
+	/**
+	 * Cached strip, painted again if missing or if its rows moved (e.g. row
+	 * heights changed).
+	 */
+	private Strip getStrip(int index, int rowCount, Consumer<Graphics> painter) {
+
+		int firstRow = index * STRIP_ROWS;
+		int lastRow = Math.min(rowCount, firstRow + STRIP_ROWS) - 1;
+		Rectangle top = table.getCellRect(firstRow, 0, true);
+		Rectangle end = table.getCellRect(lastRow, 0, true);
+		int y = top.y;
+		int height = end.y + end.height - y;
+		Strip strip = strips.get(index);
+
+		if (strip == null || strip.y != y || strip.height != height) {
+
+			if (strip != null) {
+				strip.image.flush();
+			}
+
+			strip = new Strip(paintStrip(y, height, painter), y, height);
+
+			strips.put(index, strip);
+		}
+
+		return strip;
+	}
+
+	private BufferedImage paintStrip(int y, int height, Consumer<Graphics> painter) {
+
+		GraphicsConfiguration configuration = table.getGraphicsConfiguration();
+		int imageWidth = Math.max(1, (int) Math.ceil(width * scale));
+		int imageHeight = Math.max(1, (int) Math.ceil(height * scale));
+		BufferedImage image = null;
+		Graphics2D g = null;
+
+		if (configuration != null) {
+			image = configuration.createCompatibleImage(imageWidth, imageHeight,
+					table.isOpaque() ? Transparency.OPAQUE : Transparency.TRANSLUCENT);
+		} else {
+			image = new BufferedImage(imageWidth, imageHeight,
+					table.isOpaque() ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+		}
+
+		g = image.createGraphics();
+
+		try {
+
+			g.scale(scale, scale);
+			g.translate(-x, -y);
+			g.clipRect(x, y, width, height);
+
+			painter.accept(g);
+
+		} finally {
+			g.dispose();
+		}
+
+		return image;
+	}
+
+	/**
+	 * Drop strips outside the visible rows plus lookahead and schedule the
+	 * missing lookahead strips to be painted.
+	 */
+	private void retain(Rectangle visible, int rowCount, Consumer<Graphics> painter) {
+
+		int first = rowAt(visible.y, 0) / STRIP_ROWS - lookahead;
+		int last = rowAt(visible.y + visible.height - 1, rowCount - 1) / STRIP_ROWS + lookahead;
+		Iterator<Map.Entry<Integer, Strip>> iterator = strips.entrySet().iterator();
+		Map.Entry<Integer, Strip> entry = null;
+		boolean isMissing = false;
+
+		while (iterator.hasNext()) {
+
+			entry = iterator.next();
+
+			if (entry.getKey() < first || entry.getKey() > last) {
+				entry.getValue().image.flush();
+				iterator.remove();
+			}
+		}
+
+		for (int i = Math.max(0, first); i <= last && i * STRIP_ROWS < rowCount && !isMissing; i++) {
+			isMissing = !strips.containsKey(i);
+		}
+
+		if (isMissing && !isPrefetchPending) {
+
+			isPrefetchPending = true;
+
+			SwingUtilities.invokeLater(() -> prefetch(painter));
+		}
+	}
+
+	/**
+	 * Paint one missing lookahead strip per event, so scrolling input is not
+	 * held up.
+	 */
+	private void prefetch(Consumer<Graphics> painter) {
+
+		Rectangle visible = table.getVisibleRect();
+		int rowCount = table.getRowCount();
+		int first = 0;
+		int last = 0;
+		boolean isPainted = false;
+
+		isPrefetchPending = false;
+
+		if (rowCount == 0 || visible.x != x || visible.width != width || !table.isShowing()) {
+			return;
+		}
+
+		first = Math.max(0, rowAt(visible.y, 0) / STRIP_ROWS - lookahead);
+		last = rowAt(visible.y + visible.height - 1, rowCount - 1) / STRIP_ROWS + lookahead;
+
+		for (int i = first; i <= last && i * STRIP_ROWS < rowCount && !isPainted; i++) {
+
+			if (!strips.containsKey(i)) {
+
+				getStrip(i, rowCount, painter);
+
+				isPainted = true;
+			}
+		}
+
+		if (isPainted) {
+
+			isPrefetchPending = true;
+
+			SwingUtilities.invokeLater(() -> prefetch(painter));
+		}
+	}
+
+	/*
+	 * Invalidation
+	 */
+
+	/**
+	 * Rows named by an update event are invalidated, anything else clears
+	 * every strip.
+	 */
+	@Override
+	public void tableChanged(TableModelEvent e) {
+
+		int firstRow = e.getFirstRow();
+		int lastRow = e.getLastRow();
+		int viewRow = 0;
+
+		if (e.getType() != TableModelEvent.UPDATE || firstRow == TableModelEvent.HEADER_ROW
+				|| lastRow == Integer.MAX_VALUE || lastRow - firstRow > strips.size() * STRIP_ROWS) {
+
+			clear();
+
+		} else if (table.getRowSorter() == null) {
+
+			invalidateRows(firstRow, lastRow);
+
+		} else {
+
+			for (int row = firstRow; row <= lastRow && !strips.isEmpty(); row++) {
+
+				viewRow = table.convertRowIndexToView(row);
+
+				if (viewRow >= 0) {
+					invalidateRows(viewRow, viewRow);
+				}
+			}
+		}
+	}
+
+	@Override
+	public void valueChanged(ListSelectionEvent e) {
+		invalidateRows(e.getFirstIndex(), e.getLastIndex());
+	}
+
+	@Override
+	public void sorterChanged(RowSorterEvent e) {
+		clear();
+	}
+
+	@Override
+	public void columnAdded(TableColumnModelEvent e) {
+		clear();
+	}
+
+	@Override
+	public void columnRemoved(TableColumnModelEvent e) {
+		clear();
+	}
+
+	@Override
+	public void columnMoved(TableColumnModelEvent e) {
+
+		if (e.getFromIndex() != e.getToIndex()) {
+			clear();
+		}
+	}
+
+	@Override
+	public void columnMarginChanged(ChangeEvent e) {
+		clear();
+	}
+
+	@Override
+	public void columnSelectionChanged(ListSelectionEvent e) {
+		clear();
+	}
+
+	/**
+	 * The lead cell is painted with a focus border while the table has focus.
+	 */
+	@Override
+	public void focusGained(FocusEvent e) {
+		invalidateLead();
+	}
+
+	@Override
+	public void focusLost(FocusEvent e) {
+		invalidateLead();
+	}
+
+	private void invalidateLead() {
+
+		int lead = table.getSelectionModel().getLeadSelectionIndex();
+
+		invalidateRows(lead, lead);
+	}
+
+	@Override
+	public void propertyChange(PropertyChangeEvent e) {
+
+		switch (String.valueOf(e.getPropertyName())) {
+
+		// Editing does not change how the cells underneath are painted
+		case "tableCellEditor":
+			break;
+
+		case "model":
+		case "selectionModel":
+		case "columnModel":
+		case "rowSorter":
+			unlisten();
+			listen();
+			clear();
+			break;
+
+		default:
+			clear();
+			break;
+		}
+	}
+
+	private static final class Strip {
+
+		private final BufferedImage image;
+		private final int y;
+		private final int height;
+
+		private Strip(BufferedImage image, int y, int height) {
+			this.image = image;
+			this.y = y;
+			this.height = height;
+		}
+	}
+}
@@ -5,11 +5,11 @@ import java.awt.Component;
 
 import javax.swing.AbstractCellEditor;
 import javax.swing.JComponent;
+import javax.swing.JLabel;
 import javax.swing.JObjectTable;
 import javax.swing.JTable;
+import javax.swing.SwingUtilities;
 import javax.swing.UIManager;
-import javax.swing.table.TableCellEditor;
-import javax.swing.table.TableCellRenderer;
 import javax.swing.table.object.InvokableColumn;
 
 /**
@@ -19,7 +19,44 @@ import javax.swing.table.object.InvokableColumn;
  *
  */
 public abstract class AbstractCell<ViewComponent extends Component, EditComponent extends Component>
-		extends AbstractCellEditor implements TableCellRenderer, TableCellEditor {
+		extends AbstractCellEditor implements TableCell {
+
+	/**
+	 * Component rendered for rows that are still loading
+	 */
+	private JLabel placeholderComponent;
+
+	/**
+	 * Look and Feel colours, resolved by {@link #updateUI()}
+	 */
+	private Color foreground;
+	private Color background;
+	private Color selectionForeground;
+	private Color selectionBackground;
+	private Color focusCellForeground;
+	private Color focusCellBackground;
+	private boolean isUIResolved;
+
+	/**
+	 * Column whose editable and tooltip state the view component currently
+	 * holds
+	 */
+	private InvokableColumn renderedColumn;
+
+	/**
+	 * Same as {@link #renderedColumn}, for the cell painter
+	 */
+	private InvokableColumn paintedColumn;
+
+	/**
+	 * <tt>View cells are drawn by the cell painter</tt>
+	 */
+	private boolean isFastRendering;
+
+	/**
+	 * Created on first use by {@link #getCellPainter()}
+	 */
+	private CellPainter cellPainter;
 
 	/**
 	 * 
@@ -66,82 +103,284 @@ public abstract class AbstractCell<ViewComponent extends Component, EditComponen
 			Object rowObjectInstance, Object value);
 
 	/**
-	 * Standard rendering behaviour for view
+	 * <p>
+	 * Creates the lightweight painter drawn instead of the view component in
+	 * fast rendering mode.
+	 * </p>
+	 * 
+	 * @return New painter, or <tt>null</tt> when this cell always renders with
+	 *         its view component
 	 */
-	@Override
-	public final Component getTableCellRendererComponent(JTable table, Object value, boolean isSelected,
-			boolean hasFocus, int row, int col) throws RuntimeException {
-
-		ViewComponent viewComponent = null;
-		JObjectTable<?> source = null;
-		Class<?> type = null;
-		InvokableColumn invokableColumn = null;
-		Object rowObjInstance = null;
-		String tooltip = null;
+	protected CellPainter createCellPainter() {
+		return null;
+	}
 
-		Object foreground = null;
-		Object background = null;
+	/**
+	 * 
+	 * @param table
+	 *            - Source
+	 * @param painter
+	 *            - Painter from {@link #createCellPainter()}
+	 * @param invokableColumn
+	 *            - Invokable column
+	 * @param rowObjectInstance
+	 *            - Row object instance
+	 * @param value
+	 *            - Value at column for row, <tt>null</tt> when
+	 *            {@link #isValueRequired(InvokableColumn)} is <tt>false</tt>
+	 * @see JObjectTable#getCellTextCache()
+	 */
+	public void preparePainter(JObjectTable<?> table, CellPainter painter, InvokableColumn invokableColumn,
+			Object rowObjectInstance, Object value) {
 
-		try {
+		CellTextCache.Entry entry = table.getCellTextCache().get(invokableColumn, value, painter.getFont(),
+				AbstractCell::toText);
 
-			/*
-			 * Variables
-			 */
+		painter.setText(entry.getText(), entry.getWidth(painter));
+	}
 
-			viewComponent = getViewComponent();
+	private static String toText(Object value) {
+		return (value == null ? null : value.toString());
+	}
 
-			source = (JObjectTable<?>) table;
-			invokableColumn = source.getInvokableColumn(col);
-			type = invokableColumn.getType();
-			rowObjInstance = table.getModel().getValueAt(row, 0);
-			
-			if (!type.equals(void.class) && !type.equals(Runnable.class)) {
-				value = invokableColumn.getValue(rowObjInstance);
-			}
+	/**
+	 * 
+	 * @return Painter used in fast rendering mode, <tt>null</tt> when the cell
+	 *         has none
+	 */
+	public CellPainter getCellPainter() {
+		
+		if (cellPainter == null) {
 			
-			/*
-			 * Behaviour
-			 */
-
-			viewComponent.setEnabled(invokableColumn.editable());
+			cellPainter = createCellPainter();
 			
-			if (viewComponent instanceof JComponent) {
-				
-				tooltip = invokableColumn.tooltip();
-				
-				assert (tooltip != null);
-				
-				((JComponent) viewComponent).setToolTipText(tooltip.isEmpty() ? null : tooltip);
+			if (cellPainter != null) {
+				cellPainter.setFont(getViewComponent().getFont());
 			}
+		}
+		
+		return cellPainter;
+	}
 
-			/*
-			 * Colours
-			 */
+	/**
+	 * 
+	 * @return <tt>View cells are drawn by the cell painter</tt>
+	 */
+	public boolean isFastRendering() {
+		return isFastRendering;
+	}
 
-			if (isSelected) {
-				foreground = "Table.selectionForeground";
-				background = "Table.selectionBackground";
-			} else if (hasFocus) {
-				foreground = "Table.focusCellForeground";
-				background = "Table.focusCellBackground";
-			} else {
-				foreground = "Table.foreground";
-				background = "Table.background";
-			}
+	/**
+	 * <p>
+	 * In fast rendering mode view cells are drawn by a {@link CellPainter},
+	 * which looks like the view component but has no component tree to lay out
+	 * and paint. The full edit component is still used for the cell being
+	 * edited.
+	 * </p>
+	 * <p>
+	 * Has no effect on cells without a painter (see
+	 * {@link #createCellPainter()}). Cells are also drawn by their painter
+	 * while the table they render for is in fast rendering mode (see
+	 * {@link JObjectTable#setFastRendering(boolean)}), as cells may be shared
+	 * between tables.
+	 * </p>
+	 * 
+	 * @param isFastRendering
+	 *            - <tt>Draw view cells with the cell painter</tt>
+	 */
+	public void setFastRendering(boolean isFastRendering) {
+		
+		this.isFastRendering = isFastRendering;
+	}
+
+	/**
+	 * 
+	 * @return Component to render while the row object is not loaded yet (see
+	 *         {@link javax.swing.table.object.PagedTableModel})
+	 */
+	public JLabel getPlaceholderComponent() {
+		
+		if (placeholderComponent == null) {
+			placeholderComponent = new JLabel("Loading...");
+			placeholderComponent.setOpaque(true);
+			placeholderComponent.setEnabled(false);
+		}
+		
+		return placeholderComponent;
+	}
+
+	/**
+	 * <p>
+	 * Whether the renderer needs the boxed column value.
+	 * </p>
+	 * <p>
+	 * Cells that read the row object through the primitive accessors of
+	 * {@link InvokableColumn} return <tt>false</tt>, so neither the table nor
+	 * this cell box the value while painting.
+	 * </p>
+	 * 
+	 * @param invokableColumn
+	 *            - Invokable column
+	 * @return <tt>Value is passed to
+	 *         {@link #prepareRenderer(JObjectTable, Component, InvokableColumn, Object, Object)}</tt>
+	 */
+	public boolean isValueRequired(InvokableColumn invokableColumn) {
+		return true;
+	}
 
-			foreground = UIManager.getColor(foreground);
-			background = UIManager.getColor(background);
+	/**
+	 * <p>
+	 * Resolves the Look and Feel colours used by the renderer and updates the
+	 * view, edit and placeholder components.
+	 * </p>
+	 * <p>
+	 * Called by {@link JObjectTable#updateUI()}, so the colours are looked up
+	 * once per Look and Feel change instead of once per painted cell.
+	 * </p>
+	 */
+	public void updateUI() {
+		
+		foreground = UIManager.getColor("Table.foreground");
+		background = UIManager.getColor("Table.background");
+		selectionForeground = UIManager.getColor("Table.selectionForeground");
+		selectionBackground = UIManager.getColor("Table.selectionBackground");
+		focusCellForeground = UIManager.getColor("Table.focusCellForeground");
+		focusCellBackground = UIManager.getColor("Table.focusCellBackground");
+		
+		updateComponentUI(getViewComponent());
+		updateComponentUI(getEditComponent());
+		updateComponentUI(placeholderComponent);
+		updateComponentUI(cellPainter);
+		
+		if (cellPainter != null) {
+			cellPainter.setFont(getViewComponent().getFont());
+		}
+		
+		renderedColumn = null;
+		paintedColumn = null;
+		isUIResolved = true;
+	}
+	
+	private static void updateComponentUI(Component component) {
+		
+		if (component != null) {
+			SwingUtilities.updateComponentTreeUI(component);
+		}
+	}
 
-			viewComponent.setForeground((Color) foreground);
-			viewComponent.setBackground((Color) background);
+	/**
+	 * Standard rendering behaviour for view
+	 * <p>
+	 * Reuses the value fetched by the table, the colours resolved by
+	 * {@link #updateUI()} and the column state of the previously painted
+	 * cell, so repainting a cell whose value did not change allocates
+	 * nothing.
+	 * </p>
+	 */
+	@Override
+	public final Component getTableCellRendererComponent(JTable table, Object value, boolean isSelected,
+			boolean hasFocus, int row, int col) {
 
-			prepareRenderer(source, viewComponent, invokableColumn, rowObjInstance, value);
+		ViewComponent viewComponent = getViewComponent();
+		JObjectTable<?> source = (JObjectTable<?>) table;
+		CellPainter painter = (isFastRendering || source.isFastRendering() ? getCellPainter() : null);
+		Component result = null;
+		InvokableColumn invokableColumn = source.getInvokableColumn(col);
+		Object rowObjInstance = source.getValueAt(row);
 
-		} catch (Exception e) {
-			throw new RuntimeException(e);
+		Color foreground = null;
+		Color background = null;
+
+		if (!isUIResolved) {
+			updateUI();
 		}
 
-		return viewComponent;
+		/*
+		 * Behaviour (once per column state, not per cell, as cells are shared
+		 * by columns of the same state)
+		 */
+
+		if (painter == null && !isPrepared(renderedColumn, invokableColumn)) {
+			
+			renderedColumn = invokableColumn;
+			
+			prepareColumn(viewComponent, invokableColumn);
+			
+		} else if (painter != null && !isPrepared(paintedColumn, invokableColumn)) {
+			
+			paintedColumn = invokableColumn;
+			
+			prepareColumn(painter, invokableColumn);
+		}
+
+		/*
+		 * Colours
+		 */
+
+		if (isSelected) {
+			foreground = selectionForeground;
+			background = selectionBackground;
+		} else if (hasFocus) {
+			foreground = focusCellForeground;
+			background = focusCellBackground;
+		} else {
+			foreground = this.foreground;
+			background = this.background;
+		}
+
+		if (rowObjInstance == null) {
+			
+			result = getPlaceholderComponent();
+			
+		} else if (painter != null) {
+			
+			preparePainter(source, painter, invokableColumn, rowObjInstance, value);
+			
+			result = painter;
+			
+		} else {
+			
+			prepareRenderer(source, viewComponent, invokableColumn, rowObjInstance, value);
+			
+			result = viewComponent;
+		}
+		
+		result.setForeground(foreground);
+		result.setBackground(background);
+
+		return result;
+	}
+
+	/**
+	 * 
+	 * @param preparedColumn
+	 *            - Column the component was prepared for, or <tt>null</tt>
+	 * @return <tt>Component holds the editable and tooltip state of the
+	 *         column</tt>
+	 */
+	private static boolean isPrepared(InvokableColumn preparedColumn, InvokableColumn invokableColumn) {
+		return preparedColumn == invokableColumn || (preparedColumn != null
+				&& preparedColumn.editable() == invokableColumn.editable()
+				&& preparedColumn.tooltip().equals(invokableColumn.tooltip()));
+	}
+	
+	/**
+	 * Apply the editable and tooltip state of a column to a renderer component
+	 */
+	private static void prepareColumn(Component component, InvokableColumn invokableColumn) {
+		
+		String tooltip = null;
+		
+		component.setEnabled(invokableColumn.editable());
+		
+		if (component instanceof JComponent) {
+			
+			tooltip = invokableColumn.tooltip();
+			
+			assert (tooltip != null);
+			
+			((JComponent) component).setToolTipText(tooltip.isEmpty() ? null : tooltip);
+		}
 	}
 
 	/**
@@ -168,7 +407,7 @@ public abstract class AbstractCell<ViewComponent extends Component, EditComponen
 			source = (JObjectTable<?>) table;
 			invokableColumn = source.getInvokableColumn(col);
 			type = invokableColumn.getType();
-			rowObjInstnace = table.getModel().getValueAt(row, 0);
+			rowObjInstnace = source.getValueAt(row);
 			
 			if (!type.equals(void.class) && !type.equals(Runnable.class)) {
 				
@@ -49,18 +49,27 @@ public class BoolCell extends AbstractCell<JCheckBox, JCheckBox> {
 		return editComponent;
 	}
 
+	/**
+	 * Reads the row object through {@link InvokableColumn#getBoolean(Object)}
+	 * instead.
+	 */
+	@Override
+	public boolean isValueRequired(InvokableColumn invokableColumn) {
+		return false;
+	}
+
 	@Override
 	public void prepareRenderer(JObjectTable<?> table, JCheckBox component, InvokableColumn invokableColumn,
 			Object rowObjectInstance, Object value) {
 
-		component.setSelected((Boolean) value);
+		component.setSelected(invokableColumn.getBoolean(rowObjectInstance));
 	}
 
 	@Override
 	public void prepareEditor(JObjectTable<?> table, JCheckBox component, InvokableColumn invokableColumn,
 			Object rowObjectInstance, Object value) {
 
-		component.setSelected((Boolean) value);
+		component.setSelected(invokableColumn.getBoolean(rowObjectInstance));
 	}
 
 }
@@ -5,6 +5,7 @@ import java.util.concurrent.atomic.AtomicReference;
 
 import javax.swing.JButton;
 import javax.swing.JObjectTable;
+import javax.swing.table.object.ColumnActionExecutor;
 import javax.swing.table.object.InvokableColumn;
 
 /**
@@ -16,11 +17,17 @@ import javax.swing.table.object.InvokableColumn;
  */
 public class ButtonCell extends AbstractCell<JButton, JButton> {
 	
+	/**
+	 * Default text of a button whose action is in flight
+	 */
+	public static final String DEFAULT_BUSY_TEXT = "Cancel";
+	
 	private final JButton viewComponent;
 	private final JButton editComponent;
-	private final ThreadGroup concurrentPool;
+	private final AtomicReference<JObjectTable<?>> arTable;
 	private final AtomicReference<InvokableColumn> arInvokableColumn;
 	private final AtomicReference<Object> arRowObjInstance;
+	private String busyText;
 	
 	public ButtonCell() {
 		this.viewComponent = new JButton();
@@ -28,19 +35,35 @@ public class ButtonCell extends AbstractCell<JButton, JButton> {
 		this.editComponent.setEnabled(false);
 		this.editComponent.setFocusable(false);
 		this.editComponent.addActionListener(this::execute);
-		this.concurrentPool = new ThreadGroup("Concurrent Runnables");
+		this.arTable = new AtomicReference<>();
 		this.arInvokableColumn = new AtomicReference<>();
 		this.arRowObjInstance = new AtomicReference<>();
+		this.busyText = DEFAULT_BUSY_TEXT;
 	}
 
+	/**
+	 * Run the action of the edited row with the table's
+	 * {@link ColumnActionExecutor}, or cancel it if it is still in flight.
+	 * 
+	 * @param event
+	 *            - Button event
+	 */
 	public void execute(ActionEvent event) {
 		
+		JObjectTable<?> table = arTable.get();
 		InvokableColumn invokableColumn = arInvokableColumn.get();
 		Object rowObjInstance = arRowObjInstance.get();
+		ColumnActionExecutor executor = null;
 		
-		if (invokableColumn != null && rowObjInstance != null) {
+		if (table != null && invokableColumn != null && rowObjInstance != null) {
+			
+			executor = table.getActionExecutor();
 			
-			invokableColumn.execute(rowObjInstance);
+			if (executor.isBusy(invokableColumn, rowObjInstance)) {
+				executor.cancel(invokableColumn, rowObjInstance);
+			} else {
+				invokableColumn.execute(rowObjInstance, executor);
+			}
 		}
 	}
 	
@@ -53,31 +76,63 @@ public class ButtonCell extends AbstractCell<JButton, JButton> {
 	public JButton getViewComponent() {
 		return viewComponent;
 	}
-	
-	public ThreadGroup getConcurrentPool() {
-		return concurrentPool;
-	}
 
 	@Override
 	public JButton getEditComponent() {
 		return editComponent;
 	}
+	
+	public String getBusyText() {
+		return busyText;
+	}
+	
+	/**
+	 * 
+	 * @param busyText
+	 *            - Text of a button whose action is in flight, clicking it
+	 *            cancels the action
+	 */
+	public void setBusyText(String busyText) {
+		
+		if (busyText == null) {
+			throw new NullPointerException("Busy text cannot be null");
+		}
+		
+		this.busyText = busyText;
+	}
 
 	@Override
 	public void prepareRenderer(JObjectTable<?> table, JButton component, InvokableColumn invokableColumn,
 			Object rowObjInstance, Object value) {
 
-		component.setText(invokableColumn.placeholder());
+		boolean isBusy = table.getActionExecutor().isBusy(invokableColumn, rowObjInstance);
+		
+		prepareButton(component, invokableColumn, isBusy);
+		
+		// Busy buttons are drawn pressed (disarmed first, so no action fires)
+		component.getModel().setArmed(isBusy);
+		component.getModel().setPressed(isBusy);
 	}
 
 	@Override
 	public void prepareEditor(JObjectTable<?> table, JButton component, InvokableColumn invokableColumn,
 			Object rowObjInstance, Object value) {
 
-		component.setText(invokableColumn.placeholder());
+		prepareButton(component, invokableColumn,
+				table.getActionExecutor().isBusy(invokableColumn, rowObjInstance));
 
+		arTable.set(table);
 		arInvokableColumn.set(invokableColumn);
 		arRowObjInstance.set(rowObjInstance);
 	}
 
+	private void prepareButton(JButton component, InvokableColumn invokableColumn, boolean isBusy) {
+		
+		String text = (isBusy ? busyText : invokableColumn.placeholder());
+		
+		if (!text.equals(component.getText())) {
+			component.setText(text);
+		}
+	}
+
 }
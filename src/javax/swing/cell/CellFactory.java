@@ -0,0 +1,28 @@
+package javax.swing.cell;
+
+import javax.swing.JObjectTable;
+import javax.swing.table.object.InvokableColumn;
+
+/**
+ * <p>
+ * Creates the cell of a column, see {@link CellFactoryRegistry}.
+ * </p>
+ * 
+ * @author Antony Hixson
+ *
+ */
+@FunctionalInterface
+public interface CellFactory {
+
+	/**
+	 * 
+	 * @param table
+	 *            - Table the cell is created for, shared cells are used by
+	 *            other tables as well
+	 * @param invokableColumn
+	 *            - Column the cell is created for
+	 * @return New cell, or <tt>null</tt> to use the table's default renderer
+	 *         and editor
+	 */
+	TableCell createCell(JObjectTable<?> table, InvokableColumn invokableColumn);
+}
@@ -0,0 +1,298 @@
+package javax.swing.cell;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.swing.JObjectTable;
+import javax.swing.table.object.Column;
+import javax.swing.table.object.ColumnSpec;
+import javax.swing.table.object.InvokableColumn;
+import javax.swing.table.object.editor.ObjectCellEditor;
+
+/**
+ * <p>
+ * Maps column types to the {@link CellFactory} creating their cells.
+ * </p>
+ * <p>
+ * A type uses the factory registered for it, otherwise the one of its nearest
+ * superclass. Arrays and primitives only use factories registered for exactly
+ * their type. The {@link #getDefault() default registry} has the factories
+ * below and can be extended with {@link #register(Class, CellFactory)}.
+ * </p>
+ * <table>
+ * <tr>
+ * <th>Data type</th>
+ * <th>Cell type</th>
+ * </tr>
+ * <tr>
+ * <td>boolean<br>{@link java.lang.Boolean}</td>
+ * <td>{@link BoolCell}</td>
+ * </tr>
+ * <tr>
+ * <td>byte, short, int, long, float, double<br>and their wrappers</td>
+ * <td>{@link NumberCell}</td>
+ * </tr>
+ * <tr>
+ * <td>{@link java.lang.String}</td>
+ * <td>{@link TextCell}</td>
+ * </tr>
+ * <tr>
+ * <td>{@link java.lang.Enum}</td>
+ * <td>{@link OptionCell}</td>
+ * </tr>
+ * <tr>
+ * <td>void<br>{@link java.lang.Runnable}</td>
+ * <td>{@link ButtonCell}</td>
+ * </tr>
+ * <tr>
+ * <td>{@link java.lang.Object}</td>
+ * <td>{@link ObjectCellEditor}, not shared</td>
+ * </tr>
+ * </table>
+ * <p>
+ * Renderers of shared factories are flyweights: columns of the same type whose
+ * {@link Column} attributes are equal apart from their name and index use one
+ * cell, in every table. Editors are never shared, a table creates one the
+ * first time a column is edited.
+ * </p>
+ *
+ * @author Antony Hixson
+ *
+ */
+public final class CellFactoryRegistry {
+
+	private static final CellFactoryRegistry DEFAULT = new CellFactoryRegistry();
+
+	private final Map<Class<?>, Registration> registrations;
+	private final Map<CellKey, TableCell> sharedCells;
+
+	/**
+	 * New registry with the default factories
+	 */
+	public CellFactoryRegistry() {
+
+		this.registrations = new ConcurrentHashMap<>();
+		this.sharedCells = new ConcurrentHashMap<>();
+
+		register(boolean.class, (table, column) -> new BoolCell());
+		register(Boolean.class, (table, column) -> new BoolCell());
+
+		for (Class<?> type : new Class<?>[] { byte.class, short.class, int.class, long.class, float.class,
+				double.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class }) {
+			register(type, (table, column) -> NumberCell.newInstance(column));
+		}
+
+		register(String.class, (table, column) -> new TextCell());
+		register(Enum.class, (table, column) -> OptionCell.newInstance(column.getType()));
+		register(void.class, (table, column) -> new ButtonCell());
+		register(Runnable.class, (table, column) -> new ButtonCell());
+		register(Object.class, CellFactoryRegistry::newObjectCellEditor, false);
+	}
+
+	/**
+	 *
+	 * @return Registry used by tables unless they are given another one
+	 */
+	public static CellFactoryRegistry getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Register a factory whose renderers are shared.
+	 *
+	 * @param type
+	 *            - Column type, also used by its subclasses without a factory
+	 * @param factory
+	 *            - Cell factory
+	 */
+	public void register(Class<?> type, CellFactory factory) {
+		register(type, factory, true);
+	}
+
+	/**
+	 *
+	 * @param type
+	 *            - Column type, also used by its subclasses without a factory
+	 * @param factory
+	 *            - Cell factory
+	 * @param isShared
+	 *            - <tt>Equivalent columns share one renderer</tt>, false for
+	 *            cells that hold state of a table or row
+	 */
+	public void register(Class<?> type, CellFactory factory, boolean isShared) {
+
+		if (type == null) {
+			throw new NullPointerException("Type cannot be null");
+		} else if (factory == null) {
+			throw new NullPointerException("Factory cannot be null");
+		}
+
+		registrations.put(type, new Registration(factory, isShared));
+		sharedCells.clear();
+	}
+
+	/**
+	 *
+	 * @param type
+	 *            - Column type
+	 * @return Removed factory, or <tt>null</tt>
+	 */
+	public CellFactory unregister(Class<?> type) {
+
+		Registration registration = registrations.remove(type);
+
+		sharedCells.clear();
+
+		return (registration == null ? null : registration.factory);
+	}
+
+	/**
+	 *
+	 * @param type
+	 *            - Column type
+	 * @return Factory used for the type, or <tt>null</tt>
+	 */
+	public CellFactory find(Class<?> type) {
+
+		Registration registration = findRegistration(type);
+
+		return (registration == null ? null : registration.factory);
+	}
+
+	/**
+	 *
+	 * @param table
+	 *            - Table rendering the column
+	 * @param invokableColumn
+	 *            - Column
+	 * @return Renderer for the column, shared with equivalent columns when
+	 *         the factory allows it, or <tt>null</tt>
+	 */
+	public TableCell getRenderer(JObjectTable<?> table, InvokableColumn invokableColumn) {
+
+		Registration registration = findRegistration(invokableColumn.getType());
+		TableCell result = null;
+
+		if (registration != null && registration.isShared) {
+			result = sharedCells.computeIfAbsent(new CellKey(invokableColumn),
+					key -> registration.factory.createCell(table, invokableColumn));
+		} else if (registration != null) {
+			result = registration.factory.createCell(table, invokableColumn);
+		}
+
+		return result;
+	}
+
+	/**
+	 *
+	 * @param table
+	 *            - Table editing the column
+	 * @param invokableColumn
+	 *            - Column
+	 * @return New editor for the column, or <tt>null</tt>
+	 */
+	public TableCell createEditor(JObjectTable<?> table, InvokableColumn invokableColumn) {
+
+		Registration registration = findRegistration(invokableColumn.getType());
+
+		return (registration == null ? null : registration.factory.createCell(table, invokableColumn));
+	}
+
+	/**
+	 * Drop the shared renderers, e.g. to free them once no table uses them.
+	 */
+	public void clearSharedCells() {
+		sharedCells.clear();
+	}
+
+	private Registration findRegistration(Class<?> type) {
+
+		Registration result = registrations.get(type);
+
+		if (result == null && !type.isArray() && !type.isPrimitive()) {
+
+			for (Class<?> superclass = type.getSuperclass(); superclass != null
+					&& result == null; superclass = superclass.getSuperclass()) {
+				result = registrations.get(superclass);
+			}
+
+			// Interfaces have no superclass
+			if (result == null) {
+				result = registrations.get(Object.class);
+			}
+		}
+
+		return result;
+	}
+
+	private static TableCell newObjectCellEditor(JObjectTable<?> table, InvokableColumn invokableColumn) {
+
+		ObjectCellEditor result = new ObjectCellEditor(table);
+
+		result.addRequestListener((request, row, column, invocableColumn, instance) -> {
+
+			switch (request) {
+
+			case "CREATE":
+				break;
+
+			case "EDIT":
+				JObjectTable.show(table, instance.getClass(), new Object[] { instance });
+				break;
+
+			case "DELETE":
+				break;
+			}
+		});
+
+		return result;
+	}
+
+	private static final class Registration {
+
+		private final CellFactory factory;
+		private final boolean isShared;
+
+		private Registration(CellFactory factory, boolean isShared) {
+			this.factory = factory;
+			this.isShared = isShared;
+		}
+	}
+
+	/**
+	 * Type and {@link Column} attributes of a column, apart from its name and
+	 * index
+	 */
+	private static final class CellKey {
+
+		private final Class<?> type;
+		private final Column column;
+
+		private CellKey(InvokableColumn invokableColumn) {
+
+			Column column = invokableColumn.getColumn();
+
+			this.type = invokableColumn.getType();
+			this.column = new ColumnSpec("", 0, column.editable(), column.required(), column.unique(),
+					column.placeholder(), column.tooltip(), column.value(), column.min(), column.max(), column.step(),
+					column.enabled(), column.concurrent());
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			boolean result = false;
+
+			if (obj instanceof CellKey) {
+				result = type.equals(((CellKey) obj).type) && column.equals(((CellKey) obj).column);
+			}
+
+			return result;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * type.hashCode() + column.hashCode();
+		}
+	}
+}
@@ -0,0 +1,332 @@
+package javax.swing.cell;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Toolkit;
+import java.util.Map;
+
+import javax.swing.JComponent;
+import javax.swing.SwingConstants;
+import javax.swing.UIManager;
+
+/**
+ * <p>
+ * Lightweight stamp that draws a cell's text, plus the arrow glyphs of a
+ * spinner or combo box, directly instead of painting a live component tree.
+ * </p>
+ * <p>
+ * Used by {@link AbstractCell} in fast rendering mode (see
+ * {@link AbstractCell#setFastRendering(boolean)}). Like
+ * {@link javax.swing.table.DefaultTableCellRenderer}, it overrides the
+ * validation, repaint and property change methods as no-ops since it is only
+ * ever used as a rubber stamp.
+ * </p>
+ *
+ * @author Antony Hixson
+ *
+ */
+public class CellPainter extends JComponent {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Gap between the cell edge and the text
+	 */
+	private static final int INSET = 2;
+
+	/**
+	 * Widest the glyph area is drawn, narrower when the row is shorter
+	 */
+	private static final int GLYPH_WIDTH = 16;
+
+	/**
+	 * Glyph drawn at the trailing edge of the cell
+	 */
+	public enum Glyph {
+
+		/**
+		 * Text only, looks like a text field
+		 */
+		NONE,
+
+		/**
+		 * Up and down arrows, looks like a spinner
+		 */
+		SPINNER,
+
+		/**
+		 * Down arrow, looks like a combo box
+		 */
+		COMBO
+	}
+
+	private final Glyph glyph;
+	private final int horizontalAlignment;
+
+	private String text;
+
+	/**
+	 * Width of the text, negative until measured
+	 */
+	private int textWidth;
+
+	/**
+	 * Look and Feel state, resolved by {@link #updateUI()}
+	 */
+	private Color disabledForeground;
+	private Color glyphBackground;
+	private Color glyphForeground;
+	private Color glyphShadow;
+	private Object textAntialiasing;
+	private Object textLCDContrast;
+
+	/**
+	 * Reused while painting
+	 */
+	private final Rectangle clip;
+	private final int[] xPoints;
+	private final int[] yPoints;
+
+	/**
+	 *
+	 * @param glyph
+	 *            - Glyph drawn at the trailing edge
+	 * @param horizontalAlignment
+	 *            - One of {@link SwingConstants#LEFT},
+	 *            {@link SwingConstants#CENTER}, {@link SwingConstants#RIGHT},
+	 *            {@link SwingConstants#LEADING} or
+	 *            {@link SwingConstants#TRAILING}
+	 */
+	public CellPainter(Glyph glyph, int horizontalAlignment) {
+
+		if (glyph == null) {
+			throw new NullPointerException("Glyph cannot be null");
+		}
+
+		this.glyph = glyph;
+		this.horizontalAlignment = horizontalAlignment;
+		this.text = "";
+		this.textWidth = -1;
+		this.clip = new Rectangle();
+		this.xPoints = new int[3];
+		this.yPoints = new int[3];
+
+		setOpaque(true);
+		updateUI();
+	}
+
+	public Glyph getGlyph() {
+		return glyph;
+	}
+
+	public int getHorizontalAlignment() {
+		return horizontalAlignment;
+	}
+
+	public String getText() {
+		return text;
+	}
+
+	/**
+	 *
+	 * @param text
+	 *            - Text to draw, <tt>null</tt> draws nothing
+	 */
+	public void setText(String text) {
+		setText(text, -1);
+	}
+
+	/**
+	 *
+	 * @param text
+	 *            - Text to draw, <tt>null</tt> draws nothing
+	 * @param width
+	 *            - Width of the text in the current font, negative to measure
+	 *            it while painting (see {@link CellTextCache})
+	 */
+	public void setText(String text, int width) {
+		this.text = (text == null ? "" : text);
+		this.textWidth = width;
+	}
+
+	/**
+	 * Text measured for the previous font is measured again.
+	 */
+	@Override
+	public void setFont(Font font) {
+		super.setFont(font);
+		this.textWidth = -1;
+	}
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	public void updateUI() {
+
+		Object hints = Toolkit.getDefaultToolkit().getDesktopProperty("awt.font.desktophints");
+
+		disabledForeground = UIManager.getColor("textInactiveText");
+		glyphBackground = UIManager.getColor("control");
+		glyphForeground = UIManager.getColor("controlText");
+		glyphShadow = UIManager.getColor("controlShadow");
+
+		textAntialiasing = null;
+		textLCDContrast = null;
+
+		if (hints instanceof Map) {
+			textAntialiasing = ((Map) hints).get(RenderingHints.KEY_TEXT_ANTIALIASING);
+			textLCDContrast = ((Map) hints).get(RenderingHints.KEY_TEXT_LCD_CONTRAST);
+		}
+	}
+
+	@Override
+	protected void paintComponent(Graphics g) {
+
+		int width = getWidth();
+		int height = getHeight();
+		int glyphWidth = (glyph == Glyph.NONE ? 0 : Math.min(height, GLYPH_WIDTH));
+		int textRight = width - glyphWidth - INSET;
+		FontMetrics metrics = null;
+		int x = 0;
+		int y = 0;
+
+		if (isOpaque()) {
+			g.setColor(getBackground());
+			g.fillRect(0, 0, width, height);
+		}
+
+		if (!text.isEmpty() && textRight > INSET) {
+
+			metrics = getFontMetrics(getFont());
+
+			if (textWidth < 0) {
+				textWidth = metrics.stringWidth(text);
+			}
+
+			switch (horizontalAlignment) {
+
+			case SwingConstants.CENTER:
+				x = INSET + (textRight - INSET - textWidth) / 2;
+				break;
+
+			case SwingConstants.RIGHT:
+				x = textRight - textWidth;
+				break;
+
+			case SwingConstants.TRAILING:
+				x = getComponentOrientation().isLeftToRight() ? textRight - textWidth : INSET;
+				break;
+
+			case SwingConstants.LEADING:
+				x = getComponentOrientation().isLeftToRight() ? INSET : textRight - textWidth;
+				break;
+
+			default:
+				x = INSET;
+				break;
+			}
+
+			y = (height - metrics.getHeight()) / 2 + metrics.getAscent();
+
+			if (g instanceof Graphics2D && textAntialiasing != null) {
+
+				((Graphics2D) g).setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, textAntialiasing);
+
+				if (textLCDContrast != null) {
+					((Graphics2D) g).setRenderingHint(RenderingHints.KEY_TEXT_LCD_CONTRAST, textLCDContrast);
+				}
+			}
+
+			// Text never overflows into the glyph
+			clip.setBounds(0, 0, width, height);
+			g.getClipBounds(clip);
+			g.clipRect(INSET, 0, textRight - INSET, height);
+			g.setColor(isEnabled() || disabledForeground == null ? getForeground() : disabledForeground);
+			g.drawString(text, x, y);
+			g.setClip(clip.x, clip.y, clip.width, clip.height);
+		}
+
+		if (glyphWidth > 0) {
+			paintGlyph(g, width - glyphWidth, glyphWidth, height);
+		}
+	}
+
+	private void paintGlyph(Graphics g, int x, int width, int height) {
+
+		int size = Math.max(2, width / 4);
+		int centre = x + width / 2;
+
+		g.setColor(glyphBackground);
+		g.fillRect(x, 0, width, height);
+		g.setColor(glyphShadow);
+		g.drawLine(x, 0, x, height - 1);
+		g.setColor(glyphForeground);
+
+		if (glyph == Glyph.SPINNER) {
+
+			g.drawLine(x, height / 2, x + width - 1, height / 2);
+
+			paintArrow(g, centre, height / 4, size, true);
+			paintArrow(g, centre, height - height / 4, size, false);
+
+		} else {
+
+			paintArrow(g, centre, height / 2, size, false);
+		}
+	}
+
+	private void paintArrow(Graphics g, int centreX, int centreY, int size, boolean up) {
+
+		int tip = (up ? -size / 2 : size / 2);
+
+		xPoints[0] = centreX - size;
+		xPoints[1] = centreX + size;
+		xPoints[2] = centreX;
+
+		yPoints[0] = centreY - tip;
+		yPoints[1] = centreY - tip;
+		yPoints[2] = centreY + tip;
+
+		g.fillPolygon(xPoints, yPoints, 3);
+	}
+
+	/*
+	 * Rubber stamp overrides, see DefaultTableCellRenderer
+	 */
+
+	@Override
+	public void invalidate() {
+	}
+
+	@Override
+	public void validate() {
+	}
+
+	@Override
+	public void revalidate() {
+	}
+
+	@Override
+	public void repaint(long tm, int x, int y, int width, int height) {
+	}
+
+	@Override
+	public void repaint(Rectangle r) {
+	}
+
+	@Override
+	public void repaint() {
+	}
+
+	@Override
+	protected void firePropertyChange(String propertyName, Object oldValue, Object newValue) {
+	}
+
+	@Override
+	public void firePropertyChange(String propertyName, boolean oldValue, boolean newValue) {
+	}
+}
@@ -0,0 +1,180 @@
+package javax.swing.cell;
+
+import java.awt.Component;
+import java.awt.Font;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.swing.table.object.InvokableColumn;
+
+/**
+ * <p>
+ * Bounded cache of the text drawn for a value of a column, and of its measured
+ * width, so scrolling over values already seen neither formats nor measures
+ * them again.
+ * </p>
+ * <p>
+ * Entries are kept per column in least recently used order and are keyed by
+ * value. A column's entries are dropped when it is looked up with a different
+ * font. {@link javax.swing.JObjectTable} invalidates a column when one of its
+ * cells is set and clears the cache on Look and Feel and font changes.
+ * </p>
+ * <p>
+ * Only accessed on the event dispatch thread.
+ * </p>
+ *
+ * @author Antony Hixson
+ *
+ */
+public final class CellTextCache {
+
+	/**
+	 * Default entries kept per column
+	 */
+	public static final int DEFAULT_CAPACITY = 512;
+
+	private final int capacity;
+	private final Map<InvokableColumn, ColumnEntries> columns;
+
+	public CellTextCache() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 *
+	 * @param capacity
+	 *            - Entries kept per column
+	 */
+	public CellTextCache(int capacity) {
+
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Capacity must be positive");
+		}
+
+		this.capacity = capacity;
+		this.columns = new IdentityHashMap<>();
+	}
+
+	/**
+	 *
+	 * @param column
+	 *            - Column the value belongs to
+	 * @param value
+	 *            - Value of the cell, may be <tt>null</tt>
+	 * @param font
+	 *            - Font the text is drawn with
+	 * @param formatter
+	 *            - Creates the text of a value on a cache miss, should not
+	 *            capture per-cell state as it is called once per value
+	 * @return Cached entry
+	 */
+	public Entry get(InvokableColumn column, Object value, Font font, Function<Object, String> formatter) {
+
+		ColumnEntries entries = columns.get(column);
+		Entry result = null;
+
+		if (entries == null) {
+			entries = new ColumnEntries(capacity);
+			columns.put(column, entries);
+		}
+
+		if (entries.font == null || !entries.font.equals(font)) {
+			entries.clear();
+			entries.font = font;
+		}
+
+		result = entries.get(value);
+
+		if (result == null) {
+			result = new Entry(formatter.apply(value));
+			entries.put(value, result);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Drop the entries of a column, e.g. after one of its values was set.
+	 *
+	 * @param column
+	 *            - Column to invalidate
+	 */
+	public void invalidate(InvokableColumn column) {
+		columns.remove(column);
+	}
+
+	/**
+	 * Drop every entry, e.g. after a Look and Feel or font change.
+	 */
+	public void clear() {
+		columns.clear();
+	}
+
+	/**
+	 *
+	 * @return Entries cached over all columns
+	 */
+	public int size() {
+
+		int result = 0;
+
+		for (ColumnEntries entries : columns.values()) {
+			result += entries.size();
+		}
+
+		return result;
+	}
+
+	/**
+	 * Formatted text of a value, and its width once measured.
+	 */
+	public static final class Entry {
+
+		private final String text;
+		private int width;
+
+		private Entry(String text) {
+			this.text = (text == null ? "" : text);
+			this.width = -1;
+		}
+
+		public String getText() {
+			return text;
+		}
+
+		/**
+		 *
+		 * @param component
+		 *            - Component whose font the text is drawn with
+		 * @return Width of the text, measured on first call
+		 */
+		public int getWidth(Component component) {
+
+			if (width < 0) {
+				width = component.getFontMetrics(component.getFont()).stringWidth(text);
+			}
+
+			return width;
+		}
+	}
+
+	private static final class ColumnEntries extends LinkedHashMap<Object, Entry> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int capacity;
+		private Font font;
+
+		private ColumnEntries(int capacity) {
+			super(16, 0.75F, true);
+			this.capacity = capacity;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+			return size() > capacity;
+		}
+	}
+}
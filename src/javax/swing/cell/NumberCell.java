@@ -1,11 +1,14 @@
 package javax.swing.cell;
 
+import java.util.function.Function;
+
 import javax.swing.JFormattedTextField;
 import javax.swing.JObjectTable;
 import javax.swing.JSpinner;
 import javax.swing.JSpinner.DefaultEditor;
 import javax.swing.SpinnerModel;
 import javax.swing.SpinnerNumberModel;
+import javax.swing.SwingConstants;
 import javax.swing.table.object.Column;
 import javax.swing.table.object.InvokableColumn;
 import javax.xml.bind.TypeConstraintException;
@@ -29,6 +32,32 @@ public class NumberCell extends AbstractCell<JSpinner, JSpinner> {
 	 */
 	private final JSpinner editComponent;
 	
+	/**
+	 * Primitive value (raw bits for floating point) last shown by the view
+	 * component, so unchanged values are not boxed again.
+	 */
+	private long lastViewBits;
+	
+	/**
+	 * <tt>lastViewBits is set</tt>
+	 */
+	private boolean lastViewValid;
+	
+	/**
+	 * Formats values for the cell painter like the view spinner does
+	 */
+	private final Function<Object, String> formatter;
+	
+	/**
+	 * Same as {@link #lastViewBits}, for the cell painter
+	 */
+	private long lastPainterBits;
+	
+	/**
+	 * <tt>lastPainterBits is set</tt>
+	 */
+	private boolean lastPainterValid;
+	
 	/**
 	 * <p>
 	 * Two separate models are needed to prevent the view and edit spinners
@@ -55,6 +84,9 @@ public class NumberCell extends AbstractCell<JSpinner, JSpinner> {
 		this.viewComponent.setBorder(null);
 		this.editComponent.setBorder(null);
 		
+		this.formatter = value -> (value == null ? null
+				: ((JSpinner.NumberEditor) viewComponent.getEditor()).getFormat().format(value));
+		
 		// Get the inner text field of the spinner and add action listener
 		((JSpinner.DefaultEditor) this.editComponent.getEditor())
 			.getTextField()
@@ -195,11 +227,91 @@ public class NumberCell extends AbstractCell<JSpinner, JSpinner> {
 		return editComponent;
 	}
 
+	/**
+	 * Primitive columns are read through the primitive accessors of
+	 * {@link InvokableColumn} instead.
+	 */
+	@Override
+	public boolean isValueRequired(InvokableColumn invokableColumn) {
+		return !invokableColumn.getType().isPrimitive();
+	}
+
 	@Override
 	public void prepareRenderer(JObjectTable<?> table, JSpinner component, InvokableColumn invokableColumn,
 			Object rowObj, Object iColumnValue) {
 
-		component.setValue(iColumnValue);
+		Class<?> type = invokableColumn.getType();
+		long bits = 0L;
+
+		if (!type.isPrimitive()) {
+
+			lastViewValid = false;
+
+			component.setValue(iColumnValue);
+
+		} else {
+
+			if (type.equals(float.class) || type.equals(double.class)) {
+				bits = Double.doubleToRawLongBits(invokableColumn.getDouble(rowObj));
+			} else {
+				bits = invokableColumn.getLong(rowObj);
+			}
+
+			// Only box when the spinner has to show a different value
+			if (!lastViewValid || bits != lastViewBits) {
+
+				component.setValue(box(type, bits));
+
+				lastViewBits = bits;
+				lastViewValid = true;
+			}
+		}
+	}
+
+	@Override
+	protected CellPainter createCellPainter() {
+		return new CellPainter(CellPainter.Glyph.SPINNER, SwingConstants.RIGHT);
+	}
+
+	/**
+	 * Formats the value with the view spinner's own format, through the
+	 * table's {@link CellTextCache}. Primitives are only looked up when they
+	 * differ from the value painted last.
+	 */
+	@Override
+	public void preparePainter(JObjectTable<?> table, CellPainter painter, InvokableColumn invokableColumn,
+			Object rowObj, Object iColumnValue) {
+
+		Class<?> type = invokableColumn.getType();
+		CellTextCache.Entry entry = null;
+		long bits = 0L;
+
+		if (!type.isPrimitive()) {
+
+			lastPainterValid = false;
+
+			entry = table.getCellTextCache().get(invokableColumn, iColumnValue, painter.getFont(), formatter);
+
+			painter.setText(entry.getText(), entry.getWidth(painter));
+
+		} else {
+
+			if (type.equals(float.class) || type.equals(double.class)) {
+				bits = Double.doubleToRawLongBits(invokableColumn.getDouble(rowObj));
+			} else {
+				bits = invokableColumn.getLong(rowObj);
+			}
+
+			if (!lastPainterValid || bits != lastPainterBits) {
+
+				entry = table.getCellTextCache().get(invokableColumn, box(type, bits), painter.getFont(), formatter);
+
+				painter.setText(entry.getText(), entry.getWidth(painter));
+
+				lastPainterBits = bits;
+				lastPainterValid = true;
+			}
+		}
 	}
 
 	@Override
@@ -213,6 +325,54 @@ public class NumberCell extends AbstractCell<JSpinner, JSpinner> {
 		component.setValue(iColumnValue);
 	}
 
+	/**
+	 * Box a primitive read by
+	 * {@link #prepareRenderer(JObjectTable, JSpinner, InvokableColumn, Object, Object)}
+	 * as the column's own wrapper type.
+	 * 
+	 * @param type
+	 *            - Primitive column type
+	 * @param bits
+	 *            - Integral value, or raw bits of a floating point value
+	 * @return Boxed value
+	 */
+	private static final Number box(Class<?> type, long bits) {
+
+		Number result = null;
+
+		switch (type.getName()) {
+
+		case "byte":
+			result = Byte.valueOf((byte) bits);
+			break;
+
+		case "short":
+			result = Short.valueOf((short) bits);
+			break;
+
+		case "int":
+			result = Integer.valueOf((int) bits);
+			break;
+
+		case "long":
+			result = Long.valueOf(bits);
+			break;
+
+		case "float":
+			result = Float.valueOf((float) Double.longBitsToDouble(bits));
+			break;
+
+		case "double":
+			result = Double.valueOf(Double.longBitsToDouble(bits));
+			break;
+
+		default:
+			throw new TypeConstraintException("Class type [" + type + "] is not type of Number.");
+		}
+
+		return result;
+	}
+
 	/**
 	 * Generates new {@link NumberCell} by {@link InvokableColumn}.
 	 * 
@@ -5,6 +5,7 @@ import java.util.Collection;
 import javax.swing.DefaultComboBoxModel;
 import javax.swing.JComboBox;
 import javax.swing.JObjectTable;
+import javax.swing.SwingConstants;
 import javax.swing.table.object.InvokableColumn;
 
 /**
@@ -81,7 +82,18 @@ public class OptionCell <E> extends AbstractCell<JComboBox<E>, JComboBox<E>> {
 	public void prepareRenderer(JObjectTable<?> table, JComboBox<E> component, InvokableColumn iColumn,
 			Object rowObjectInstance, Object value) {
 
-		component.setSelectedItem(value);
+		if (component.getSelectedItem() != value) {
+			component.setSelectedItem(value);
+		}
+	}
+
+	/**
+	 * Items are drawn with {@link Object#toString()}, like the default combo
+	 * box renderer.
+	 */
+	@Override
+	protected CellPainter createCellPainter() {
+		return new CellPainter(CellPainter.Glyph.COMBO, SwingConstants.LEADING);
 	}
 
 	@Override
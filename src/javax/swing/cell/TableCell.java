@@ -0,0 +1,14 @@
+package javax.swing.cell;
+
+import javax.swing.table.TableCellEditor;
+import javax.swing.table.TableCellRenderer;
+
+/**
+ * <p>A cell that is both the renderer and the editor of a column.</p>
+ * 
+ * @author Antony Hixson
+ *
+ */
+public interface TableCell extends TableCellRenderer, TableCellEditor {
+
+}
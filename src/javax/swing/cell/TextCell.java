@@ -2,6 +2,7 @@ package javax.swing.cell;
 
 import javax.swing.JObjectTable;
 import javax.swing.JTextField;
+import javax.swing.SwingConstants;
 import javax.swing.table.object.InvokableColumn;
 
 /**
@@ -23,6 +24,12 @@ public class TextCell extends AbstractCell<JTextField, JTextField> {
 	 */
 	private final JTextField editComponent;
 	
+	/**
+	 * Text last shown by the view component, so repainting an unchanged cell
+	 * does not rebuild its document
+	 */
+	private String lastViewText;
+	
 	public TextCell() {
 		this.viewComponent = new JTextField();
 		this.viewComponent.setBorder(null);
@@ -53,9 +60,37 @@ public class TextCell extends AbstractCell<JTextField, JTextField> {
 
 		String text = (String) value;
 
+		if (text == null || text.isEmpty()) {
+			text = invokableColumn.placeholder();
+		}
+
 		component.setEditable(invokableColumn.editable());
-		component.setText(text != null && !text.isEmpty() ? text : invokableColumn.placeholder());
+		
+		if (!text.equals(lastViewText)) {
+			component.setText(text);
+			lastViewText = text;
+		}
+	}
+
+	@Override
+	protected CellPainter createCellPainter() {
+		return new CellPainter(CellPainter.Glyph.NONE, SwingConstants.LEADING);
+	}
+
+	@Override
+	public void preparePainter(JObjectTable<?> table, CellPainter painter, InvokableColumn invokableColumn,
+			Object rowObjectInstance, Object value) {
+
+		String text = (String) value;
+		CellTextCache.Entry entry = null;
+
+		if (text == null || text.isEmpty()) {
+			text = invokableColumn.placeholder();
+		}
+
+		entry = table.getCellTextCache().get(invokableColumn, text, painter.getFont(), String::valueOf);
 
+		painter.setText(entry.getText(), entry.getWidth(painter));
 	}
 
 	@Override
@@ -101,7 +101,8 @@ public @interface Column {
 	
 	/**
 	 * 
-	 * @return <tt>Run {@link Runnable} in a new {@link Thread}</tt>
+	 * @return <tt>Run {@link Runnable} or void method off the event dispatch
+	 *         thread</tt>, see {@link ColumnActionExecutor}
 	 */
 	boolean concurrent() default false;
 }
\ No newline at end of file
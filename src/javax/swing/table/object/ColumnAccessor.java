@@ -0,0 +1,181 @@
+package javax.swing.table.object;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * <p>
+ * Resolved read/write access to the member(s) behind an
+ * {@link InvokableColumn}.
+ * </p>
+ * <p>
+ * Accessors are created once per column when {@link InvokableColumn#generateFor}
+ * runs, so the render and edit paths never have to look up or check access on
+ * a {@link Field} or {@link Method} again.
+ * </p>
+ * 
+ * @author Antony Hixson
+ *
+ */
+public interface ColumnAccessor {
+
+	/**
+	 * 
+	 * @param instance
+	 *            - Row object instance
+	 * @return Value of the column for that instance
+	 * @throws ReflectiveOperationException
+	 *             Getter/field could not be read, or the getter threw
+	 */
+	Object get(Object instance) throws ReflectiveOperationException;
+
+	/**
+	 * 
+	 * @param instance
+	 *            - Row object instance
+	 * @param value
+	 *            - New value for the column
+	 * @throws ReflectiveOperationException
+	 *             Setter/field could not be written, or the setter threw
+	 */
+	void set(Object instance, Object value) throws ReflectiveOperationException;
+
+	/**
+	 * <p>
+	 * Reads a numeric column as an <tt>int</tt>.
+	 * </p>
+	 * <p>
+	 * The default implementation unboxes {@link #get(Object)}, with
+	 * <tt>null</tt> read as 0. Accessors for primitive columns override this
+	 * to avoid boxing.
+	 * </p>
+	 * 
+	 * @param instance
+	 *            - Row object instance
+	 * @return Value of the column for that instance
+	 * @throws ReflectiveOperationException
+	 *             Getter/field could not be read, or the getter threw
+	 */
+	default int getInt(Object instance) throws ReflectiveOperationException {
+		Object value = get(instance);
+		return value == null ? 0 : ((Number) value).intValue();
+	}
+
+	/**
+	 * Reads a numeric column as a <tt>long</tt>, see {@link #getInt(Object)}.
+	 */
+	default long getLong(Object instance) throws ReflectiveOperationException {
+		Object value = get(instance);
+		return value == null ? 0L : ((Number) value).longValue();
+	}
+
+	/**
+	 * Reads a numeric column as a <tt>double</tt>, see {@link #getInt(Object)}.
+	 */
+	default double getDouble(Object instance) throws ReflectiveOperationException {
+		Object value = get(instance);
+		return value == null ? 0D : ((Number) value).doubleValue();
+	}
+
+	/**
+	 * Reads a boolean column, with <tt>null</tt> read as <tt>false</tt>.
+	 */
+	default boolean getBoolean(Object instance) throws ReflectiveOperationException {
+		return Boolean.TRUE.equals(get(instance));
+	}
+
+	/**
+	 * <p>
+	 * Writes an <tt>int</tt> column.
+	 * </p>
+	 * <p>
+	 * The default implementation boxes the value for
+	 * {@link #set(Object, Object)}. Accessors for primitive columns override
+	 * this to avoid boxing.
+	 * </p>
+	 * 
+	 * @param instance
+	 *            - Row object instance
+	 * @param value
+	 *            - New value for the column
+	 * @throws ReflectiveOperationException
+	 *             Setter/field could not be written, or the setter threw
+	 */
+	default void setInt(Object instance, int value) throws ReflectiveOperationException {
+		set(instance, Integer.valueOf(value));
+	}
+
+	/**
+	 * Writes a <tt>long</tt> column, see {@link #setInt(Object, int)}.
+	 */
+	default void setLong(Object instance, long value) throws ReflectiveOperationException {
+		set(instance, Long.valueOf(value));
+	}
+
+	/**
+	 * Writes a <tt>double</tt> column, see {@link #setInt(Object, int)}.
+	 */
+	default void setDouble(Object instance, double value) throws ReflectiveOperationException {
+		set(instance, Double.valueOf(value));
+	}
+
+	/**
+	 * Writes a <tt>boolean</tt> column, see {@link #setInt(Object, int)}.
+	 */
+	default void setBoolean(Object instance, boolean value) throws ReflectiveOperationException {
+		set(instance, Boolean.valueOf(value));
+	}
+
+	/**
+	 * 
+	 * @return <tt>Column can be read</tt>
+	 */
+	boolean isGettable();
+
+	/**
+	 * 
+	 * @return <tt>Column can be written</tt>
+	 */
+	boolean isSettable();
+
+	/**
+	 * 
+	 * @return Bean property name of the column, or <tt>null</tt> when unknown
+	 */
+	default String getPropertyName() {
+		return null;
+	}
+
+	/**
+	 * <p>
+	 * Creates the fastest available accessor for the members of a column.
+	 * </p>
+	 * <p>
+	 * {@link java.lang.invoke.MethodHandle}s are used where possible,
+	 * otherwise plain reflection is used as the fallback.
+	 * </p>
+	 * 
+	 * @param field
+	 *            - (optional) field
+	 * @param getterMethod
+	 *            - (optional) getter method, has priority over field
+	 * @param setterMethod
+	 *            - (optional) setter method, has priority over field
+	 * @return New accessor
+	 */
+	public static ColumnAccessor of(Field field, Method getterMethod, Method setterMethod) {
+
+		ColumnAccessor result = null;
+
+		try {
+
+			result = new MethodHandleColumnAccessor(field, getterMethod, setterMethod);
+
+		} catch (IllegalAccessException | RuntimeException e) {
+
+			result = new ReflectiveColumnAccessor(field, getterMethod, setterMethod);
+		}
+
+		return result;
+	}
+}
@@ -0,0 +1,53 @@
+package javax.swing.table.object;
+
+import javax.swing.event.ChangeEvent;
+
+/**
+ * <p>
+ * Fired by a {@link ColumnActionExecutor} when the action of a row starts
+ * being in flight or stops, so listeners only repaint that row's cell.
+ * </p>
+ *
+ * @author Antony Hixson
+ *
+ */
+public final class ColumnActionEvent extends ChangeEvent {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient InvokableColumn invokableColumn;
+	private final transient Object rowObjInstance;
+
+	/**
+	 *
+	 * @param source
+	 *            - Executor running the action
+	 * @param invokableColumn
+	 *            - Column of the action
+	 * @param rowObjInstance
+	 *            - Row of the action
+	 */
+	public ColumnActionEvent(ColumnActionExecutor source, InvokableColumn invokableColumn, Object rowObjInstance) {
+
+		super(source);
+
+		this.invokableColumn = invokableColumn;
+		this.rowObjInstance = rowObjInstance;
+	}
+
+	/**
+	 *
+	 * @return Column of the action
+	 */
+	public InvokableColumn getInvokableColumn() {
+		return invokableColumn;
+	}
+
+	/**
+	 *
+	 * @return Row of the action, by identity
+	 */
+	public Object getRow() {
+		return rowObjInstance;
+	}
+}
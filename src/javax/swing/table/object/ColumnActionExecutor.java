@@ -0,0 +1,394 @@
+package javax.swing.table.object;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.swing.SwingUtilities;
+import javax.swing.event.ChangeListener;
+
+/**
+ * <p>
+ * Runs the actions of <tt>@Column(concurrent = true)</tt> {@link Runnable}
+ * fields and void methods off the event dispatch thread.
+ * </p>
+ * <p>
+ * Actions are keyed by column and row: while an action of a row is in
+ * flight, submitting it again for the same row is ignored, it can be
+ * cancelled with {@link #cancel(InvokableColumn, Object)} and
+ * {@link #isBusy(InvokableColumn, Object)} is <tt>true</tt> (shown by
+ * {@link javax.swing.cell.ButtonCell}). Change listeners are notified on the
+ * event dispatch thread whenever an action starts being in flight or stops,
+ * with a {@link ColumnActionEvent} naming its column and row.
+ * </p>
+ * <p>
+ * Either runs each action on a virtual thread ({@link #virtualThreads()}, Java
+ * 21 or newer) or on a bounded pool that refuses actions once its queue is
+ * full ({@link #bounded(int, int)}).
+ * </p>
+ *
+ * @author Antony Hixson
+ *
+ */
+public final class ColumnActionExecutor {
+
+	/**
+	 * Actions queued by {@link #getDefault()} before refusing more
+	 */
+	public static final int DEFAULT_QUEUE_LIMIT = 64;
+
+	private static volatile ColumnActionExecutor defaultExecutor;
+
+	private final ExecutorService executorService;
+	private final Map<ActionKey, ActionTask> inFlight;
+	private final List<ChangeListener> changeListeners;
+	private final LongAdder rejectedCount;
+
+	/**
+	 *
+	 * @param executorService
+	 *            - Runs the actions, owned by this executor from now on
+	 */
+	public ColumnActionExecutor(ExecutorService executorService) {
+
+		if (executorService == null) {
+			throw new NullPointerException("Executor service cannot be null");
+		}
+
+		this.executorService = executorService;
+		this.inFlight = new ConcurrentHashMap<>();
+		this.changeListeners = new CopyOnWriteArrayList<>();
+		this.rejectedCount = new LongAdder();
+	}
+
+	/**
+	 *
+	 * @param threads
+	 *            - Pool size
+	 * @param queueLimit
+	 *            - Actions waiting for a thread before more are refused
+	 * @return Executor running actions on a bounded pool of daemon threads
+	 */
+	public static ColumnActionExecutor bounded(int threads, int queueLimit) {
+
+		ThreadPoolExecutor pool = null;
+
+		if (threads < 1) {
+			throw new IllegalArgumentException("Threads must be positive");
+		} else if (queueLimit < 1) {
+			throw new IllegalArgumentException("Queue limit must be positive");
+		}
+
+		pool = new ThreadPoolExecutor(threads, threads, 30L, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(queueLimit), new ActionThreadFactory());
+
+		pool.allowCoreThreadTimeOut(true);
+
+		return new ColumnActionExecutor(pool);
+	}
+
+	/**
+	 * <p>
+	 * Executor starting a virtual thread per action. The executor service is
+	 * looked up reflectively, so the library still runs on Java 8.
+	 * </p>
+	 *
+	 * @return Virtual thread executor, or {@link #bounded(int, int)} with one
+	 *         thread per processor when virtual threads are not supported
+	 * @see #isVirtualThreadSupported()
+	 */
+	public static ColumnActionExecutor virtualThreads() {
+
+		ExecutorService virtualThreadExecutor = null;
+
+		try {
+
+			virtualThreadExecutor = (ExecutorService) Executors.class
+					.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+
+		} catch (ReflectiveOperationException e) {
+
+			// Not supported by this runtime
+		}
+
+		return (virtualThreadExecutor != null ? new ColumnActionExecutor(virtualThreadExecutor)
+				: bounded(Runtime.getRuntime().availableProcessors(), DEFAULT_QUEUE_LIMIT));
+	}
+
+	/**
+	 *
+	 * @return <tt>Runtime supports virtual threads</tt>
+	 */
+	public static boolean isVirtualThreadSupported() {
+
+		boolean result = false;
+
+		try {
+
+			Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+
+			result = true;
+
+		} catch (NoSuchMethodException e) {
+
+			result = false;
+		}
+
+		return result;
+	}
+
+	/**
+	 *
+	 * @return Executor used by tables and columns unless given another one,
+	 *         a bounded pool with one thread per processor and a queue of
+	 *         {@link #DEFAULT_QUEUE_LIMIT} by default
+	 */
+	public static ColumnActionExecutor getDefault() {
+
+		ColumnActionExecutor result = defaultExecutor;
+
+		if (result == null) {
+
+			synchronized (ColumnActionExecutor.class) {
+
+				if (defaultExecutor == null) {
+					defaultExecutor = bounded(Runtime.getRuntime().availableProcessors(), DEFAULT_QUEUE_LIMIT);
+				}
+
+				result = defaultExecutor;
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Replace the default executor, the previous one keeps running the
+	 * actions already submitted to it.
+	 *
+	 * @param executor
+	 *            - New default executor
+	 */
+	public static void setDefault(ColumnActionExecutor executor) {
+
+		if (executor == null) {
+			throw new NullPointerException("Executor cannot be null");
+		}
+
+		defaultExecutor = executor;
+	}
+
+	/**
+	 *
+	 * @param invokableColumn
+	 *            - Column of the action
+	 * @param rowObjInstance
+	 *            - Row of the action
+	 * @param action
+	 *            - Action
+	 * @return Future of the action, or <tt>null</tt> when the row's action is
+	 *         still in flight or the executor refused it
+	 */
+	public Future<?> submit(InvokableColumn invokableColumn, Object rowObjInstance, Runnable action) {
+
+		ActionKey key = new ActionKey(invokableColumn, rowObjInstance);
+		ActionTask task = new ActionTask(key, action);
+		Future<?> result = null;
+
+		if (inFlight.putIfAbsent(key, task) == null) {
+
+			try {
+
+				executorService.execute(task);
+
+				result = task;
+
+				fireStateChanged(key);
+
+			} catch (RejectedExecutionException e) {
+
+				inFlight.remove(key, task);
+				rejectedCount.increment();
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 *
+	 * @param invokableColumn
+	 *            - Column of the action
+	 * @param rowObjInstance
+	 *            - Row of the action
+	 * @return <tt>Action of the row is in flight</tt>
+	 */
+	public boolean isBusy(InvokableColumn invokableColumn, Object rowObjInstance) {
+		return !inFlight.isEmpty() && inFlight.containsKey(new ActionKey(invokableColumn, rowObjInstance));
+	}
+
+	/**
+	 * Cancel the action of a row, interrupting it if it is running.
+	 *
+	 * @param invokableColumn
+	 *            - Column of the action
+	 * @param rowObjInstance
+	 *            - Row of the action
+	 * @return <tt>Action was cancelled</tt>
+	 */
+	public boolean cancel(InvokableColumn invokableColumn, Object rowObjInstance) {
+
+		ActionTask task = inFlight.get(new ActionKey(invokableColumn, rowObjInstance));
+
+		return (task != null && task.cancel(true));
+	}
+
+	/**
+	 * Cancel every action in flight.
+	 */
+	public void cancelAll() {
+		inFlight.values().forEach(task -> task.cancel(true));
+	}
+
+	/**
+	 *
+	 * @return Actions queued or running
+	 */
+	public int getInFlightCount() {
+		return inFlight.size();
+	}
+
+	/**
+	 *
+	 * @return Actions refused because the queue was full
+	 */
+	public long getRejectedCount() {
+		return rejectedCount.sum();
+	}
+
+	/**
+	 * Cancel every action in flight and stop the executor service.
+	 */
+	public void shutdown() {
+		cancelAll();
+		executorService.shutdownNow();
+	}
+
+	public void addChangeListener(ChangeListener listener) {
+		changeListeners.add(listener);
+	}
+
+	public void removeChangeListener(ChangeListener listener) {
+		changeListeners.remove(listener);
+	}
+
+	private void fireStateChanged(ActionKey key) {
+
+		ColumnActionEvent event = new ColumnActionEvent(this, key.invokableColumn, key.rowObjInstance);
+
+		if (!changeListeners.isEmpty()) {
+			SwingUtilities.invokeLater(() -> changeListeners.forEach(listener -> listener.stateChanged(event)));
+		}
+	}
+
+	private final class ActionTask extends FutureTask<Void> {
+
+		private final ActionKey key;
+
+		private ActionTask(ActionKey key, Runnable action) {
+			super(action, null);
+			this.key = key;
+		}
+
+		@Override
+		protected void done() {
+
+			inFlight.remove(key, this);
+
+			fireStateChanged(key);
+
+			if (!isCancelled()) {
+
+				try {
+
+					get();
+
+				} catch (ExecutionException e) {
+
+					e.getCause().printStackTrace();
+
+				} catch (InterruptedException e) {
+
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Column and row identity
+	 */
+	private static final class ActionKey {
+
+		private final InvokableColumn invokableColumn;
+		private final Object rowObjInstance;
+
+		private ActionKey(InvokableColumn invokableColumn, Object rowObjInstance) {
+
+			if (invokableColumn == null) {
+				throw new NullPointerException("Column cannot be null");
+			} else if (rowObjInstance == null) {
+				throw new NullPointerException("Row cannot be null");
+			}
+
+			this.invokableColumn = invokableColumn;
+			this.rowObjInstance = rowObjInstance;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			boolean result = false;
+
+			if (obj instanceof ActionKey) {
+				result = invokableColumn == ((ActionKey) obj).invokableColumn
+						&& rowObjInstance == ((ActionKey) obj).rowObjInstance;
+			}
+
+			return result;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * System.identityHashCode(invokableColumn) + System.identityHashCode(rowObjInstance);
+		}
+	}
+
+	private static final class ActionThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+
+			Thread thread = new Thread(runnable, "Column action " + count.incrementAndGet());
+
+			thread.setDaemon(true);
+
+			return thread;
+		}
+	}
+}
@@ -0,0 +1,73 @@
+package javax.swing.table.object;
+
+import java.util.List;
+
+/**
+ * <p>
+ * Reflection-free source of {@link InvokableColumn}s for one class, generated
+ * at compile time by the
+ * {@link javax.swing.table.object.processor.ColumnProcessor}.
+ * </p>
+ * <p>
+ * The adapter for <tt>com.example.Employee</tt> is named
+ * <tt>com.example.Employee_ColumnAdapter</tt> (see {@link #SUFFIX}).
+ * </p>
+ * 
+ * @author Antony Hixson
+ *
+ */
+public interface ColumnAdapter {
+
+	/**
+	 * Appended to the binary name of a class to get its adapter's name.
+	 */
+	String SUFFIX = "_ColumnAdapter";
+
+	/**
+	 * 
+	 * @return Class the columns belong to
+	 */
+	Class<?> getType();
+
+	/**
+	 * 
+	 * @return New list of columns, in declaration order
+	 */
+	List<InvokableColumn> createColumns();
+
+	/**
+	 * Look up the generated adapter for a class.
+	 * 
+	 * @param type
+	 *            - Class type to examine
+	 * @return Adapter, or <tt>null</tt> when none was generated
+	 */
+	public static ColumnAdapter find(Class<?> type) {
+
+		ColumnAdapter result = null;
+		Class<?> adapterType = null;
+
+		if (type == null) {
+			throw new NullPointerException("Class type cannot be null");
+		}
+
+		try {
+
+			adapterType = Class.forName(type.getName() + SUFFIX, true, type.getClassLoader());
+
+			if (ColumnAdapter.class.isAssignableFrom(adapterType)) {
+				result = (ColumnAdapter) adapterType.newInstance();
+			}
+
+		} catch (ClassNotFoundException e) {
+
+			// not processed, fall back to reflection
+
+		} catch (InstantiationException | IllegalAccessException | LinkageError e) {
+
+			e.printStackTrace();
+		}
+
+		return result;
+	}
+}
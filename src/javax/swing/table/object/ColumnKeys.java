@@ -0,0 +1,166 @@
+package javax.swing.table.object;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ * Reads the values of a column for many rows at once and reduces them to
+ * dense ranks, for sorting without calling the column on each comparison.
+ * </p>
+ * <p>
+ * Primitive columns are read through the primitive accessors into
+ * <tt>long</tt> keys (doubles in an order preserving bit form), other columns
+ * are compared as by {@link InvokableColumn#getRowComparator()}. Rows are
+ * read in parallel.
+ * </p>
+ *
+ * @author Antony Hixson
+ *
+ */
+final class ColumnKeys {
+
+	private ColumnKeys() {
+	}
+
+	/**
+	 *
+	 * @param column
+	 *            - Column
+	 * @param rows
+	 *            - Rows
+	 * @param isDescending
+	 *            - <tt>Greatest value has the lowest rank</tt>
+	 * @return Rank of the value of each row, from 0, equal values have equal
+	 *         ranks
+	 */
+	static int[] rank(InvokableColumn column, Object[] rows, boolean isDescending) {
+
+		int[] result = (isPrimitive(column.getType()) ? rankPrimitive(column, rows) : rankObject(column, rows));
+		int maxRank = 0;
+
+		if (isDescending) {
+
+			for (int rank : result) {
+				maxRank = Math.max(maxRank, rank);
+			}
+
+			for (int i = 0; i < result.length; i++) {
+				result[i] = maxRank - result[i];
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 *
+	 * @param type
+	 *            - Column type
+	 * @return <tt>Values are read as keys by {@link #key(InvokableColumn, Object)}</tt>
+	 */
+	static boolean isPrimitive(Class<?> type) {
+		return type.isPrimitive() && type != void.class;
+	}
+
+	/**
+	 *
+	 * @param column
+	 *            - Primitive column
+	 * @param rowObjInstance
+	 *            - Row
+	 * @return Value of the column as a key in the same order
+	 */
+	static long key(InvokableColumn column, Object rowObjInstance) {
+
+		Class<?> type = column.getType();
+		long result = 0L;
+
+		if (type == boolean.class) {
+			result = column.getBoolean(rowObjInstance) ? 1L : 0L;
+		} else if (type == long.class) {
+			result = column.getLong(rowObjInstance);
+		} else if (type == double.class || type == float.class) {
+			result = doubleKey(column.getDouble(rowObjInstance));
+		} else {
+			result = column.getInt(rowObjInstance);
+		}
+
+		return result;
+	}
+
+	/**
+	 *
+	 * @return Bits of the value, in the order of {@link Double#compare(double, double)}
+	 */
+	static long doubleKey(double value) {
+
+		long result = Double.doubleToLongBits(value);
+
+		result ^= (result >> 63) & Long.MAX_VALUE;
+
+		return result;
+	}
+
+	private static int[] rankPrimitive(InvokableColumn column, Object[] rows) {
+
+		long[] keys = new long[rows.length];
+		long[] distinct = null;
+		int[] result = new int[rows.length];
+		int count = 0;
+
+		IntStream.range(0, rows.length).parallel().forEach(i -> keys[i] = key(column, rows[i]));
+
+		distinct = keys.clone();
+
+		Arrays.parallelSort(distinct);
+
+		for (int i = 0; i < distinct.length; i++) {
+			if (i == 0 || distinct[i] != distinct[count - 1]) {
+				distinct[count++] = distinct[i];
+			}
+		}
+
+		final long[] values = distinct;
+		final int valueCount = count;
+
+		IntStream.range(0, rows.length).parallel()
+				.forEach(i -> result[i] = Arrays.binarySearch(values, 0, valueCount, keys[i]));
+
+		return result;
+	}
+
+	private static int[] rankObject(InvokableColumn column, Object[] rows) {
+
+		Entry[] entries = new Entry[rows.length];
+		int[] result = new int[rows.length];
+		int rank = 0;
+
+		IntStream.range(0, rows.length).parallel()
+				.forEach(i -> entries[i] = new Entry(column.getValue(rows[i]), i));
+
+		Arrays.parallelSort(entries, (a, b) -> InvokableColumn.compareValues(a.value, b.value));
+
+		for (int i = 0; i < entries.length; i++) {
+
+			if (i > 0 && InvokableColumn.compareValues(entries[i - 1].value, entries[i].value) != 0) {
+				rank++;
+			}
+
+			result[entries[i].row] = rank;
+		}
+
+		return result;
+	}
+
+	private static final class Entry {
+
+		private final Object value;
+		private final int row;
+
+		private Entry(Object value, int row) {
+			this.value = value;
+			this.row = row;
+		}
+	}
+}
@@ -0,0 +1,217 @@
+package javax.swing.table.object;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Plain implementation of {@link Column}, so column metadata can be created
+ * without reading annotations reflectively (used by generated
+ * {@link ColumnAdapter}s).
+ * </p>
+ * <p>
+ * Follows the {@link Annotation} contract for {@link #equals(Object)} and
+ * {@link #hashCode()}, so it is equal to a real {@link Column} annotation with
+ * the same attributes.
+ * </p>
+ * 
+ * @author Antony Hixson
+ *
+ */
+public final class ColumnSpec implements Column {
+
+	private final String name;
+	private final int index;
+	private final boolean editable;
+	private final boolean required;
+	private final boolean unique;
+	private final String placeholder;
+	private final String tooltip;
+	private final String value;
+	private final String min;
+	private final String max;
+	private final String step;
+	private final boolean enabled;
+	private final boolean concurrent;
+
+	public ColumnSpec(String name, int index, boolean editable, boolean required, boolean unique, String placeholder,
+			String tooltip, String value, String min, String max, String step, boolean enabled, boolean concurrent) {
+
+		if (name == null || placeholder == null || tooltip == null || value == null || min == null || max == null
+				|| step == null) {
+			throw new NullPointerException("Column attributes cannot be null");
+		}
+
+		this.name = name;
+		this.index = index;
+		this.editable = editable;
+		this.required = required;
+		this.unique = unique;
+		this.placeholder = placeholder;
+		this.tooltip = tooltip;
+		this.value = value;
+		this.min = min;
+		this.max = max;
+		this.step = step;
+		this.enabled = enabled;
+		this.concurrent = concurrent;
+	}
+
+	/**
+	 * <p>
+	 * Copies the attributes of a {@link Column}.
+	 * </p>
+	 * <p>
+	 * Every attribute read on an annotation goes through its dynamic proxy,
+	 * which allocates on each call; the copy is read while painting instead.
+	 * </p>
+	 * 
+	 * @param column
+	 *            - Column to copy
+	 * @return <tt>column</tt> if it is a {@link ColumnSpec} already, otherwise a
+	 *         new {@link ColumnSpec} with the same attributes
+	 */
+	public static ColumnSpec copyOf(Column column) {
+
+		ColumnSpec result = null;
+
+		if (column == null) {
+			throw new NullPointerException("Column cannot be null");
+		} else if (column instanceof ColumnSpec) {
+			result = (ColumnSpec) column;
+		} else {
+			result = new ColumnSpec(column.name(), column.index(), column.editable(), column.required(),
+					column.unique(), column.placeholder(), column.tooltip(), column.value(), column.min(),
+					column.max(), column.step(), column.enabled(), column.concurrent());
+		}
+
+		return result;
+	}
+
+	@Override
+	public Class<? extends Annotation> annotationType() {
+		return Column.class;
+	}
+
+	@Override
+	public String name() {
+		return name;
+	}
+
+	@Override
+	public int index() {
+		return index;
+	}
+
+	@Override
+	public boolean editable() {
+		return editable;
+	}
+
+	@Override
+	public boolean required() {
+		return required;
+	}
+
+	@Override
+	public boolean unique() {
+		return unique;
+	}
+
+	@Override
+	public String placeholder() {
+		return placeholder;
+	}
+
+	@Override
+	public String tooltip() {
+		return tooltip;
+	}
+
+	@Override
+	public String value() {
+		return value;
+	}
+
+	@Override
+	public String min() {
+		return min;
+	}
+
+	@Override
+	public String max() {
+		return max;
+	}
+
+	@Override
+	public String step() {
+		return step;
+	}
+
+	@Override
+	public boolean enabled() {
+		return enabled;
+	}
+
+	@Override
+	public boolean concurrent() {
+		return concurrent;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+
+		boolean result = false;
+		Column other = null;
+
+		if (obj == this) {
+			result = true;
+		} else if (obj instanceof Column) {
+			other = (Column) obj;
+			result = name.equals(other.name()) && index == other.index() && editable == other.editable()
+					&& required == other.required() && unique == other.unique()
+					&& placeholder.equals(other.placeholder()) && tooltip.equals(other.tooltip())
+					&& value.equals(other.value()) && min.equals(other.min()) && max.equals(other.max())
+					&& step.equals(other.step()) && enabled == other.enabled() && concurrent == other.concurrent();
+		}
+
+		return result;
+	}
+
+	@Override
+	public int hashCode() {
+
+		int result = 0;
+
+		result += member("name", name.hashCode());
+		result += member("index", Integer.hashCode(index));
+		result += member("editable", Boolean.hashCode(editable));
+		result += member("required", Boolean.hashCode(required));
+		result += member("unique", Boolean.hashCode(unique));
+		result += member("placeholder", placeholder.hashCode());
+		result += member("tooltip", tooltip.hashCode());
+		result += member("value", value.hashCode());
+		result += member("min", min.hashCode());
+		result += member("max", max.hashCode());
+		result += member("step", step.hashCode());
+		result += member("enabled", Boolean.hashCode(enabled));
+		result += member("concurrent", Boolean.hashCode(concurrent));
+
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return "@" + Column.class.getName() + Arrays.asList("name=" + name, "index=" + index, "editable=" + editable,
+				"required=" + required, "unique=" + unique, "placeholder=" + placeholder, "tooltip=" + tooltip,
+				"value=" + value, "min=" + min, "max=" + max, "step=" + step, "enabled=" + enabled,
+				"concurrent=" + concurrent).toString().replace('[', '(').replace(']', ')');
+	}
+
+	/**
+	 * Hash of a single member, as defined by {@link Annotation#hashCode()}.
+	 */
+	private static final int member(String memberName, int valueHash) {
+		return (127 * memberName.hashCode()) ^ valueHash;
+	}
+}
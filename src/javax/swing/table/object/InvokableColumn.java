@@ -1,10 +1,11 @@
 package javax.swing.table.object;
 
+import java.beans.Introspector;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -30,22 +31,36 @@ public class InvokableColumn {
 	private final Method setterMethod;
 	private final Class<?> type;
 	private final boolean isParameterlessConstructorPresent;
+	private final ColumnAccessor accessor;
 
 	private InvokableColumn(Column column, Field field, Method getterMethod, Method setterMethod) {
 		
-		this.column = column;
+		this.column = ColumnSpec.copyOf(column);
 		this.field = field;
 		this.getterMethod = getterMethod;
 		this.setterMethod = setterMethod;
 		this.type = extractColumnType();
 		this.isParameterlessConstructorPresent = hasParameterlessConstructor(type);
+		this.accessor = ColumnAccessor.of(field, getterMethod, setterMethod);
+	}
+	
+	private InvokableColumn(Column column, Class<?> type, boolean isParameterlessConstructorPresent,
+			ColumnAccessor accessor) {
+		
+		this.column = column;
+		this.field = null;
+		this.getterMethod = null;
+		this.setterMethod = null;
+		this.type = type;
+		this.isParameterlessConstructorPresent = isParameterlessConstructorPresent;
+		this.accessor = accessor;
 	}
 	
 	@Override
 	public final String toString() {
 		return String.format(
-				"{\n\t\"column\":\"%s\",\n\t\"field\":\"%s\",\n\t\"getterMethod\":\"%s\",\n\t\"setterMethod\":\"%s\"\n}",
-				column, field, getterMethod, setterMethod);
+				"{\n\t\"column\":\"%s\",\n\t\"field\":\"%s\",\n\t\"getterMethod\":\"%s\",\n\t\"setterMethod\":\"%s\",\n\t\"accessor\":\"%s\"\n}",
+				column, field, getterMethod, setterMethod, accessor);
 	}
 	
 	public final Column getColumn() {
@@ -64,6 +79,15 @@ public class InvokableColumn {
 		return setterMethod;
 	}
 	
+	/**
+	 * 
+	 * @return Resolved accessor used by {@link #getValue(Object)},
+	 *         {@link #setValue(Object, Object)} and {@link #execute(Object)}
+	 */
+	public final ColumnAccessor getAccessor() {
+		return accessor;
+	}
+	
 	/*
 	 * Column delegate methods
 	 */
@@ -133,7 +157,40 @@ public class InvokableColumn {
 	}
 	
 	public final boolean isSetable() {
-		return field != null || setterMethod != null;
+		return accessor.isSettable();
+	}
+	
+	/**
+	 * 
+	 * @return Bean property name of the column: the field name, or the getter
+	 *         name without its <tt>get</tt> or <tt>is</tt> prefix, or the name
+	 *         given by the accessor of generated columns (may be
+	 *         <tt>null</tt>)
+	 */
+	public final String getPropertyName() {
+		
+		String result = null;
+		
+		if (getterMethod != null) {
+			
+			result = getterMethod.getName();
+			
+			if (result.startsWith("get") && result.length() > 3) {
+				result = Introspector.decapitalize(result.substring(3));
+			} else if (result.startsWith("is") && result.length() > 2) {
+				result = Introspector.decapitalize(result.substring(2));
+			}
+			
+		} else if (field != null) {
+			
+			result = field.getName();
+			
+		} else {
+			
+			result = accessor.getPropertyName();
+		}
+		
+		return result;
 	}
 	
 	public final Object newInstance() {
@@ -146,7 +203,31 @@ public class InvokableColumn {
 		return result;
 	}
 	
+	/**
+	 * Same as {@link #execute(Object, ColumnActionExecutor)} with the
+	 * {@link ColumnActionExecutor#getDefault() default executor}.
+	 * 
+	 * @param instance
+	 *            - Row object instance
+	 * @return <tt>Action was run or submitted</tt>
+	 */
 	public boolean execute(Object instance) {
+		return execute(instance, ColumnActionExecutor.getDefault());
+	}
+	
+	/**
+	 * Invoke the void method or run the {@link Runnable} of this column.
+	 * Concurrent columns are submitted to the executor, others run on the
+	 * calling thread.
+	 * 
+	 * @param instance
+	 *            - Row object instance
+	 * @param executor
+	 *            - Runs concurrent actions
+	 * @return <tt>Action was run or submitted</tt>, false when the row's action
+	 *         is still in flight or the executor refused it
+	 */
+	public boolean execute(Object instance, ColumnActionExecutor executor) {
 		
 		boolean b = false;
 		Class<?> type = null;
@@ -158,42 +239,43 @@ public class InvokableColumn {
 			
 			if (instance == null) {
 				throw new NullPointerException("Instance must be defined");
+			} else if (executor == null) {
+				throw new NullPointerException("Executor must be defined");
 			}
 			
 			type = getType();
+			concurrent = getColumn().concurrent();
 			
 			if (type.equals(void.class)) {
 				
-				getterMethod.invoke(instance);
+				runnable = () -> invokeVoid(instance);
 				
 			} else if (type.equals(Runnable.class)) {
 				
-				if (field != null) {
+				if (accessor.isGettable()) {
 					
-					value = field.get(instance);
+					value = accessor.get(instance);
 					
 				} else {
 					
 					throw new NullPointerException("Runnable variable must have a @Column annotation");
 				}
 
-				concurrent = getColumn().concurrent();
-
 				runnable = (Runnable) value;
-
-				if (concurrent) {
-					
-					new Thread(runnable).start();
-					
-				} else {
-					
-					runnable.run();
-				}
 			}
 			
-			b = true;
+			if (runnable != null && concurrent) {
+				
+				b = executor.submit(this, instance, runnable) != null;
+				
+			} else if (runnable != null) {
+				
+				runnable.run();
+				
+				b = true;
+			}
 			
-		} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+		} catch (ReflectiveOperationException | IllegalArgumentException e) {
 			
 			e.printStackTrace();
 		}
@@ -201,75 +283,346 @@ public class InvokableColumn {
 		return b;
 	}
 	
+	private void invokeVoid(Object instance) {
+		
+		try {
+			
+			accessor.get(instance);
+			
+		} catch (ReflectiveOperationException | IllegalArgumentException e) {
+			
+			e.printStackTrace();
+		}
+	}
+	
 	public Object getValue(Object instance) {
 
 		Object value = null;
 
-		if (instance != null) {
+		if (instance != null && accessor.isGettable()) {
 
-			if (getterMethod != null) {
+			try {
 
-				try {
+				value = accessor.get(instance);
 
-					value = getterMethod.invoke(instance);
+			} catch (Exception e) {
 
-				} catch (Exception e) {
+				e.printStackTrace();
+			}
+		}
 
-					e.printStackTrace();
-				}
+		return value;
+	}
 
-			} else if (field != null) {
+	public boolean setValue(Object instance, Object value) {
 
-				try {
+		boolean b = false;
 
-					value = field.get(instance);
+		if (instance != null && accessor.isSettable()) {
 
-				} catch (Exception e) {
+			try {
 
-					e.printStackTrace();
-				}
+				accessor.set(instance, value);
+
+				b = true;
+
+			} catch (Exception e) {
+
+				e.printStackTrace();
+			}
+		}
+
+		return b;
+	}
+	
+	/**
+	 * Primitive form of {@link #getValue(Object)}, see
+	 * {@link ColumnAccessor#getInt(Object)}.
+	 * 
+	 * @param instance
+	 *            - Row object instance
+	 * @return Value of the column, or 0 when it cannot be read
+	 */
+	public int getInt(Object instance) {
+
+		int value = 0;
+
+		if (instance != null && accessor.isGettable()) {
+
+			try {
+
+				value = accessor.getInt(instance);
+
+			} catch (Exception e) {
+
+				e.printStackTrace();
 			}
 		}
 
 		return value;
 	}
 
-	public boolean setValue(Object instance, Object value) {
+	/**
+	 * Primitive form of {@link #getValue(Object)}, see
+	 * {@link ColumnAccessor#getLong(Object)}.
+	 * 
+	 * @param instance
+	 *            - Row object instance
+	 * @return Value of the column, or 0L when it cannot be read
+	 */
+	public long getLong(Object instance) {
+
+		long value = 0L;
+
+		if (instance != null && accessor.isGettable()) {
+
+			try {
+
+				value = accessor.getLong(instance);
+
+			} catch (Exception e) {
+
+				e.printStackTrace();
+			}
+		}
+
+		return value;
+	}
+
+	/**
+	 * Primitive form of {@link #getValue(Object)}, see
+	 * {@link ColumnAccessor#getDouble(Object)}.
+	 * 
+	 * @param instance
+	 *            - Row object instance
+	 * @return Value of the column, or 0D when it cannot be read
+	 */
+	public double getDouble(Object instance) {
+
+		double value = 0D;
+
+		if (instance != null && accessor.isGettable()) {
+
+			try {
+
+				value = accessor.getDouble(instance);
+
+			} catch (Exception e) {
+
+				e.printStackTrace();
+			}
+		}
+
+		return value;
+	}
+
+	/**
+	 * Primitive form of {@link #getValue(Object)}, see
+	 * {@link ColumnAccessor#getBoolean(Object)}.
+	 * 
+	 * @param instance
+	 *            - Row object instance
+	 * @return Value of the column, or false when it cannot be read
+	 */
+	public boolean getBoolean(Object instance) {
+
+		boolean value = false;
+
+		if (instance != null && accessor.isGettable()) {
+
+			try {
+
+				value = accessor.getBoolean(instance);
+
+			} catch (Exception e) {
+
+				e.printStackTrace();
+			}
+		}
+
+		return value;
+	}
+
+	/**
+	 * Primitive form of {@link #setValue(Object, Object)}, see
+	 * {@link ColumnAccessor#setInt(Object, int)}.
+	 * 
+	 * @param instance
+	 *            - Row object instance
+	 * @param value
+	 *            - New value
+	 * @return <tt>Value was set</tt>
+	 */
+	public boolean setInt(Object instance, int value) {
 
 		boolean b = false;
 
-		if (instance != null) {
+		if (instance != null && accessor.isSettable()) {
 
-			if (setterMethod != null) {
+			try {
 
-				try {
+				accessor.setInt(instance, value);
 
-					setterMethod.invoke(instance, value);
-					
-					b = true;
+				b = true;
 
-				} catch (Exception e) {
+			} catch (Exception e) {
 
-					e.printStackTrace();
-				}
+				e.printStackTrace();
+			}
+		}
+
+		return b;
+	}
+
+	/**
+	 * Primitive form of {@link #setValue(Object, Object)}, see
+	 * {@link ColumnAccessor#setLong(Object, long)}.
+	 * 
+	 * @param instance
+	 *            - Row object instance
+	 * @param value
+	 *            - New value
+	 * @return <tt>Value was set</tt>
+	 */
+	public boolean setLong(Object instance, long value) {
+
+		boolean b = false;
 
-			} else if (field != null) {
+		if (instance != null && accessor.isSettable()) {
 
-				try {
+			try {
 
-					field.set(instance, value);
+				accessor.setLong(instance, value);
 
-					b = true;
+				b = true;
 
-				} catch (Exception e) {
+			} catch (Exception e) {
 
-					e.printStackTrace();
-				}
+				e.printStackTrace();
 			}
 		}
 
 		return b;
 	}
+
+	/**
+	 * Primitive form of {@link #setValue(Object, Object)}, see
+	 * {@link ColumnAccessor#setDouble(Object, double)}.
+	 * 
+	 * @param instance
+	 *            - Row object instance
+	 * @param value
+	 *            - New value
+	 * @return <tt>Value was set</tt>
+	 */
+	public boolean setDouble(Object instance, double value) {
+
+		boolean b = false;
+
+		if (instance != null && accessor.isSettable()) {
+
+			try {
+
+				accessor.setDouble(instance, value);
+
+				b = true;
+
+			} catch (Exception e) {
+
+				e.printStackTrace();
+			}
+		}
+
+		return b;
+	}
+
+	/**
+	 * Primitive form of {@link #setValue(Object, Object)}, see
+	 * {@link ColumnAccessor#setBoolean(Object, boolean)}.
+	 * 
+	 * @param instance
+	 *            - Row object instance
+	 * @param value
+	 *            - New value
+	 * @return <tt>Value was set</tt>
+	 */
+	public boolean setBoolean(Object instance, boolean value) {
+
+		boolean b = false;
+
+		if (instance != null && accessor.isSettable()) {
+
+			try {
+
+				accessor.setBoolean(instance, value);
+
+				b = true;
+
+			} catch (Exception e) {
+
+				e.printStackTrace();
+			}
+		}
+
+		return b;
+	}
+
+	/**
+	 * <p>
+	 * Compares row objects by the value of this column.
+	 * </p>
+	 * <p>
+	 * Primitive columns are compared through the primitive accessors, so no
+	 * value is boxed. Other columns use their natural order when
+	 * {@link Comparable}, otherwise their string form, with <tt>null</tt>
+	 * first.
+	 * </p>
+	 * 
+	 * @return Comparator of row object instances
+	 */
+	public final Comparator<Object> getRowComparator() {
+
+		Comparator<Object> result = null;
+
+		if (type.equals(boolean.class)) {
+			result = (a, b) -> Boolean.compare(getBoolean(a), getBoolean(b));
+		} else if (type.equals(byte.class) || type.equals(short.class) || type.equals(char.class)
+				|| type.equals(int.class)) {
+			result = (a, b) -> Integer.compare(getInt(a), getInt(b));
+		} else if (type.equals(long.class)) {
+			result = (a, b) -> Long.compare(getLong(a), getLong(b));
+		} else if (type.equals(float.class) || type.equals(double.class)) {
+			result = (a, b) -> Double.compare(getDouble(a), getDouble(b));
+		} else {
+			result = (a, b) -> compareValues(getValue(a), getValue(b));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Order of the values of columns that are not primitive, as used by
+	 * {@link #getRowComparator()}
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	static final int compareValues(Object a, Object b) {
+
+		int result = 0;
+
+		if (a == b) {
+			result = 0;
+		} else if (a == null) {
+			result = -1;
+		} else if (b == null) {
+			result = 1;
+		} else if (a instanceof Comparable && a.getClass().isInstance(b)) {
+			result = ((Comparable) a).compareTo(b);
+		} else {
+			result = a.toString().compareTo(b.toString());
+		}
+
+		return result;
+	}
 	
 	private final Class<?> extractColumnType() {
 		Class<?> result = null;
@@ -365,13 +718,23 @@ public class InvokableColumn {
 	 * (by column name).
 	 * 
 	 * <p>
+	 * Uses the {@link ColumnAdapter} generated by the
+	 * {@link javax.swing.table.object.processor.ColumnProcessor} when one
+	 * exists, otherwise scans the class. Use
+	 * {@link InvokableColumnRegistry#getColumns} to share the result between
+	 * tables of the same type.
+	 * </p>
+	 * 
+	 * <p>
 	 * TODO Validation - Prevent multiple variables/methods being assigned the
 	 * same column names for the same operations. Attempts to achieve this using
-	 * Stream.length() closed the stream.
+	 * Stream.length() closed the stream. (Enforced at compile time for types
+	 * handled by the ColumnProcessor.)
 	 * </p>
 	 * <p>
 	 * TODO Validation - Ensure the 'setterMethod' has one argument and is of
-	 * the same type as the variable/getter method.
+	 * the same type as the variable/getter method. (Enforced at compile time
+	 * for types handled by the ColumnProcessor.)
 	 * </p>
 	 * 
 	 * @param type
@@ -387,6 +750,7 @@ public class InvokableColumn {
 		Method getterMethod = null;
 		Method setterMethod = null;
 		InvokableColumn mirrorColumn = null;
+		ColumnAdapter adapter = null;
 
 		Map<Column, Field> columnFieldMap = null; // direct get/set
 		Map<Column, Method> columnMethodMap = null; // getters
@@ -402,6 +766,10 @@ public class InvokableColumn {
 		
 		if (type == null) {
 			throw new NullPointerException("Class type cannot be null");
+		} else if ((adapter = ColumnAdapter.find(type)) != null) {
+			
+			results.addAll(adapter.createColumns());
+			
 		} else {
 
 			columnFieldMap = extractColumnsForDeclaredFields(type);
@@ -479,6 +847,31 @@ public class InvokableColumn {
 		return results;
 	}
 	
+	/**
+	 * Create a column without any reflective members, as used by generated
+	 * {@link ColumnAdapter}s.
+	 * 
+	 * @param column
+	 *            - Column metadata
+	 * @param type
+	 *            - Column value type
+	 * @param isParameterlessConstructorPresent
+	 *            - <tt>Column value type has a public parameterless
+	 *            constructor</tt>
+	 * @param accessor
+	 *            - Read/write access to the column
+	 * @return New column
+	 */
+	public static final InvokableColumn of(Column column, Class<?> type, boolean isParameterlessConstructorPresent,
+			ColumnAccessor accessor) {
+		
+		if (column == null || type == null || accessor == null) {
+			throw new NullPointerException("Column, type and accessor must be defined");
+		}
+		
+		return new InvokableColumn(column, type, isParameterlessConstructorPresent, accessor);
+	}
+	
 	public static final boolean hasParameterlessConstructor(Class<?> clazz) {
 		return Stream.of(clazz.getConstructors()).anyMatch((c) -> c.getParameterCount() == 0);
 	}
@@ -0,0 +1,94 @@
+package javax.swing.table.object;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Process-wide cache of the {@link InvokableColumn}s resolved for each class.
+ * </p>
+ * <p>
+ * Backed by a {@link ClassValue}, so the columns are stored against the class
+ * itself and are released together with it when a plugin class loader is
+ * unloaded.
+ * </p>
+ * 
+ * @author Antony Hixson
+ *
+ */
+public final class InvokableColumnRegistry {
+
+	private static final LongAdder lookups = new LongAdder();
+	private static final LongAdder misses = new LongAdder();
+
+	private static final ClassValue<List<InvokableColumn>> columns = new ClassValue<List<InvokableColumn>>() {
+
+		@Override
+		protected List<InvokableColumn> computeValue(Class<?> type) {
+			misses.increment();
+			return Collections.unmodifiableList(InvokableColumn.generateFor(type));
+		}
+	};
+
+	private InvokableColumnRegistry() {
+	}
+
+	/**
+	 * Get the columns for a class, resolving them on first use.
+	 * 
+	 * @param type
+	 *            - Class type to examine
+	 * @return Unmodifiable list of columns, shared between callers
+	 */
+	public static final List<InvokableColumn> getColumns(Class<?> type) {
+
+		if (type == null) {
+			throw new NullPointerException("Class type cannot be null");
+		}
+
+		lookups.increment();
+
+		return columns.get(type);
+	}
+
+	/**
+	 * Drop the cached columns for a class, so the next lookup resolves them
+	 * again.
+	 * 
+	 * @param type
+	 *            - Class type to forget
+	 */
+	public static final void remove(Class<?> type) {
+
+		if (type == null) {
+			throw new NullPointerException("Class type cannot be null");
+		}
+
+		columns.remove(type);
+	}
+
+	/**
+	 * 
+	 * @return Number of lookups answered from the cache
+	 */
+	public static final long getHitCount() {
+		return lookups.sum() - misses.sum();
+	}
+
+	/**
+	 * 
+	 * @return Number of lookups that had to resolve the columns
+	 */
+	public static final long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * Reset the hit and miss counters.
+	 */
+	public static final void resetStatistics() {
+		lookups.reset();
+		misses.reset();
+	}
+}
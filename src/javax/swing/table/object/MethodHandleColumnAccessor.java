@@ -0,0 +1,304 @@
+package javax.swing.table.object;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * <p>
+ * {@link ColumnAccessor} backed by {@link MethodHandle}s that are adapted to
+ * <tt>(Object)Object</tt> and <tt>(Object,Object)void</tt> once, so every call
+ * is a single {@link MethodHandle#invokeExact} without access checks or
+ * argument arrays.
+ * </p>
+ * <p>
+ * Primitive columns also get handles adapted to <tt>(Object)int</tt>,
+ * <tt>(Object)long</tt>, <tt>(Object)double</tt> and <tt>(Object)boolean</tt>
+ * (where the conversion is widening), and to the exact primitive setter type,
+ * so the primitive methods never box.
+ * </p>
+ * 
+ * @author Antony Hixson
+ *
+ */
+final class MethodHandleColumnAccessor implements ColumnAccessor {
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private final MethodHandle getter;
+	private final MethodHandle setter;
+
+	private final MethodHandle intGetter;
+	private final MethodHandle longGetter;
+	private final MethodHandle doubleGetter;
+	private final MethodHandle booleanGetter;
+
+	private final MethodHandle intSetter;
+	private final MethodHandle longSetter;
+	private final MethodHandle doubleSetter;
+	private final MethodHandle booleanSetter;
+
+	MethodHandleColumnAccessor(Field field, Method getterMethod, Method setterMethod) throws IllegalAccessException {
+
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		MethodHandle rawGetter = null;
+		MethodHandle rawSetter = null;
+
+		if (getterMethod != null) {
+			rawGetter = lookup.unreflect(getterMethod);
+		} else if (field != null) {
+			rawGetter = lookup.unreflectGetter(field);
+		}
+
+		if (setterMethod != null) {
+			rawSetter = lookup.unreflect(setterMethod);
+		} else if (field != null) {
+			rawSetter = lookup.unreflectSetter(field);
+		}
+
+		getter = rawGetter == null ? null : rawGetter.asType(GETTER_TYPE);
+		setter = rawSetter == null ? null : rawSetter.asType(SETTER_TYPE);
+
+		intGetter = primitiveGetter(rawGetter, int.class);
+		longGetter = primitiveGetter(rawGetter, long.class);
+		doubleGetter = primitiveGetter(rawGetter, double.class);
+		booleanGetter = primitiveGetter(rawGetter, boolean.class);
+
+		intSetter = primitiveSetter(rawSetter, int.class);
+		longSetter = primitiveSetter(rawSetter, long.class);
+		doubleSetter = primitiveSetter(rawSetter, double.class);
+		booleanSetter = primitiveSetter(rawSetter, boolean.class);
+	}
+
+	@Override
+	public Object get(Object instance) throws ReflectiveOperationException {
+
+		if (getter == null) {
+			throw new IllegalAccessException("Column has no getter or field");
+		}
+
+		try {
+			return (Object) getter.invokeExact(instance);
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable t) {
+			throw new InvocationTargetException(t);
+		}
+	}
+
+	@Override
+	public void set(Object instance, Object value) throws ReflectiveOperationException {
+
+		if (setter == null) {
+			throw new IllegalAccessException("Column has no setter or field");
+		}
+
+		try {
+			setter.invokeExact(instance, value);
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable t) {
+			throw new InvocationTargetException(t);
+		}
+	}
+
+	@Override
+	public int getInt(Object instance) throws ReflectiveOperationException {
+
+		if (intGetter == null) {
+			return ColumnAccessor.super.getInt(instance);
+		}
+
+		try {
+			return (int) intGetter.invokeExact(instance);
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable t) {
+			throw new InvocationTargetException(t);
+		}
+	}
+
+	@Override
+	public long getLong(Object instance) throws ReflectiveOperationException {
+
+		if (longGetter == null) {
+			return ColumnAccessor.super.getLong(instance);
+		}
+
+		try {
+			return (long) longGetter.invokeExact(instance);
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable t) {
+			throw new InvocationTargetException(t);
+		}
+	}
+
+	@Override
+	public double getDouble(Object instance) throws ReflectiveOperationException {
+
+		if (doubleGetter == null) {
+			return ColumnAccessor.super.getDouble(instance);
+		}
+
+		try {
+			return (double) doubleGetter.invokeExact(instance);
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable t) {
+			throw new InvocationTargetException(t);
+		}
+	}
+
+	@Override
+	public boolean getBoolean(Object instance) throws ReflectiveOperationException {
+
+		if (booleanGetter == null) {
+			return ColumnAccessor.super.getBoolean(instance);
+		}
+
+		try {
+			return (boolean) booleanGetter.invokeExact(instance);
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable t) {
+			throw new InvocationTargetException(t);
+		}
+	}
+
+	@Override
+	public void setInt(Object instance, int value) throws ReflectiveOperationException {
+
+		if (intSetter == null) {
+			ColumnAccessor.super.setInt(instance, value);
+			return;
+		}
+
+		try {
+			intSetter.invokeExact(instance, value);
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable t) {
+			throw new InvocationTargetException(t);
+		}
+	}
+
+	@Override
+	public void setLong(Object instance, long value) throws ReflectiveOperationException {
+
+		if (longSetter == null) {
+			ColumnAccessor.super.setLong(instance, value);
+			return;
+		}
+
+		try {
+			longSetter.invokeExact(instance, value);
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable t) {
+			throw new InvocationTargetException(t);
+		}
+	}
+
+	@Override
+	public void setDouble(Object instance, double value) throws ReflectiveOperationException {
+
+		if (doubleSetter == null) {
+			ColumnAccessor.super.setDouble(instance, value);
+			return;
+		}
+
+		try {
+			doubleSetter.invokeExact(instance, value);
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable t) {
+			throw new InvocationTargetException(t);
+		}
+	}
+
+	@Override
+	public void setBoolean(Object instance, boolean value) throws ReflectiveOperationException {
+
+		if (booleanSetter == null) {
+			ColumnAccessor.super.setBoolean(instance, value);
+			return;
+		}
+
+		try {
+			booleanSetter.invokeExact(instance, value);
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable t) {
+			throw new InvocationTargetException(t);
+		}
+	}
+
+	@Override
+	public boolean isGettable() {
+		return getter != null;
+	}
+
+	@Override
+	public boolean isSettable() {
+		return setter != null;
+	}
+
+	/**
+	 * Adapt a primitive getter to <tt>(Object)primitive</tt>, when the
+	 * conversion is widening.
+	 * 
+	 * @param rawGetter
+	 *            - (optional) unadapted getter
+	 * @param primitive
+	 *            - Primitive return type
+	 * @return Adapted handle, or <tt>null</tt> if not applicable
+	 */
+	private static final MethodHandle primitiveGetter(MethodHandle rawGetter, Class<?> primitive) {
+
+		MethodHandle result = null;
+		Class<?> returnType = null;
+
+		if (rawGetter != null) {
+
+			returnType = rawGetter.type().returnType();
+
+			if (returnType.isPrimitive() && !returnType.equals(void.class)) {
+
+				try {
+					result = rawGetter.asType(MethodType.methodType(primitive, Object.class));
+				} catch (WrongMethodTypeException e) {
+					result = null;
+				}
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Adapt a setter to <tt>(Object,primitive)void</tt>, only when it takes
+	 * exactly that primitive.
+	 * 
+	 * @param rawSetter
+	 *            - (optional) unadapted setter
+	 * @param primitive
+	 *            - Primitive parameter type
+	 * @return Adapted handle, or <tt>null</tt> if not applicable
+	 */
+	private static final MethodHandle primitiveSetter(MethodHandle rawSetter, Class<?> primitive) {
+
+		MethodHandle result = null;
+
+		if (rawSetter != null && rawSetter.type().parameterType(1).equals(primitive)) {
+			result = rawSetter.asType(MethodType.methodType(void.class, Object.class, primitive));
+		}
+
+		return result;
+	}
+}
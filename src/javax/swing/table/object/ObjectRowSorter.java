@@ -0,0 +1,1300 @@
+package javax.swing.table.object;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import javax.swing.RowSorter;
+import javax.swing.SortOrder;
+import javax.swing.SwingUtilities;
+
+/**
+ * <p>
+ * {@link RowSorter} for an {@link ObjectTableModel}, in place of a
+ * {@link javax.swing.table.TableRowSorter} which boxes and compares the value
+ * of every cell through <tt>getValueAt</tt> on each comparison.
+ * </p>
+ * <p>
+ * Each sort key column is read once per row through the column accessors
+ * (the primitive accessors for primitive columns) and reduced to a dense
+ * <tt>int</tt> rank, so sorting never calls a column again. The ranks of the
+ * sort keys are then sorted with {@link Arrays#parallelSort(long[])}, least
+ * significant key first, packed with the current position of the row so each
+ * pass is stable. The result is a view to model permutation of the rows.
+ * </p>
+ * <p>
+ * Columns that are not primitive use their natural order when
+ * {@link Comparable}, otherwise their string form, with <tt>null</tt> first.
+ * Rows keep their model order between equal keys.
+ * </p>
+ * <p>
+ * Rows can be filtered by a {@link RowPredicate}, compiled against the model
+ * and evaluated in parallel before sorting the rows matching. Rows filtered
+ * out have no view row. A predicate narrower than the one on screen (see
+ * {@link RowPredicate#implies(RowPredicate)}) only evaluates the rows on
+ * screen and keeps their order, a wider one only evaluates the rows off
+ * screen. Rows inserted or updated are the only ones filtered again.
+ * </p>
+ * <p>
+ * Once sorted, the permutation is maintained incrementally: rows inserted or
+ * updated are placed by binary search and only the part of the permutation
+ * between their old and new positions is shifted, rows deleted are dropped in
+ * one pass. Changes of more than {@link #getIncrementalLimit()} rows are
+ * sorted from scratch instead.
+ * </p>
+ * <p>
+ * Given an executor (see {@link #setExecutor(Executor)}), tables of
+ * {@link #MIN_BACKGROUND_ROWS} rows or more are sorted from scratch in the
+ * background, on a snapshot of the rows taken on the event dispatch thread.
+ * The previous order stays on screen, maintained incrementally, until the new
+ * one is swapped in on the event dispatch thread in one event, filtered and
+ * sorted. A new sort or filter cancels the one in progress. Rows inserted
+ * or deleted in the meantime invalidate the snapshot and the sort starts
+ * again, rows updated are placed again after the swap.
+ * </p>
+ *
+ * @author Antony Hixson
+ *
+ */
+public class ObjectRowSorter<T> extends RowSorter<ObjectTableModel<T>> {
+
+	/**
+	 * Default number of sort keys kept by {@link #toggleSortOrder(int)}
+	 */
+	public static final int DEFAULT_MAX_SORT_KEYS = 3;
+
+	/**
+	 * Default number of rows inserted or updated at once that are placed
+	 * incrementally rather than sorted from scratch
+	 */
+	public static final int DEFAULT_INCREMENTAL_LIMIT = 512;
+
+	/**
+	 * Fewer rows are sorted on the event dispatch thread even with an
+	 * executor, faster than the round trip
+	 */
+	public static final int MIN_BACKGROUND_ROWS = 10000;
+
+	private static volatile ExecutorService defaultExecutor;
+
+	private final ObjectTableModel<T> model;
+	private List<SortKey> sortKeys;
+	private int maxSortKeys;
+	private boolean sortsOnUpdates;
+	private int incrementalLimit;
+	private Executor executor;
+
+	/**
+	 * Incremented by each sort, cancelling the one in the background
+	 */
+	private volatile int sortCount;
+
+	/**
+	 * Incremented by rows inserted or deleted, invalidating the snapshot of a
+	 * sort in the background
+	 */
+	private int structureCount;
+
+	/**
+	 * Rows (for model) updated since the snapshot, <tt>null</tt> unless
+	 * sorting in the background
+	 */
+	private BitSet updatedRows;
+
+	/**
+	 * Rows (for model) updated and not filtered again since the rows on
+	 * screen were filtered, see {@link #setSortsOnUpdates(boolean)}
+	 */
+	private BitSet staleRows;
+
+	private RowPredicate rowPredicate;
+
+	/**
+	 * Compiled row predicate, <tt>null</tt> when there is none
+	 */
+	private Predicate<Object> matcher;
+
+	/**
+	 * Row comparators and compiled row predicate of the rows on screen,
+	 * resolved by {@link #sort()}
+	 */
+	private Comparator<Object>[] comparators;
+	private Predicate<Object> filter;
+	private RowPredicate filterPredicate;
+
+	/**
+	 * View to model and model to view rows, <tt>null</tt> while rows are in
+	 * model order and none is filtered out, -1 for rows filtered out
+	 */
+	private int[] viewToModel;
+	private int[] modelToView;
+
+	/**
+	 * Row count of the model as last seen, to check the events
+	 */
+	private int modelRowCount;
+
+	/**
+	 *
+	 * @param model
+	 *            - Model to sort, paged models are not supported
+	 */
+	public ObjectRowSorter(ObjectTableModel<T> model) {
+
+		if (model == null) {
+			throw new NullPointerException("Model cannot be null");
+		} else if (model instanceof PagedTableModel) {
+			throw new IllegalArgumentException("Paged models cannot be sorted");
+		}
+
+		this.model = model;
+		this.sortKeys = Collections.emptyList();
+		this.maxSortKeys = DEFAULT_MAX_SORT_KEYS;
+		this.incrementalLimit = DEFAULT_INCREMENTAL_LIMIT;
+		this.staleRows = new BitSet();
+		this.modelRowCount = model.getRowCount();
+	}
+
+	@Override
+	public ObjectTableModel<T> getModel() {
+		return model;
+	}
+
+	/**
+	 * Make the column the primary sort key, or reverse its order when it
+	 * already is.
+	 */
+	@Override
+	public void toggleSortOrder(int column) {
+
+		List<SortKey> keys = new ArrayList<>(sortKeys);
+		SortKey key = null;
+		int index = 0;
+
+		checkColumn(column);
+
+		for (index = keys.size() - 1; index >= 0; index--) {
+			if (keys.get(index).getColumn() == column) {
+				break;
+			}
+		}
+
+		if (index == -1) {
+
+			key = new SortKey(column, SortOrder.ASCENDING);
+			keys.add(0, key);
+
+		} else if (index == 0) {
+
+			key = keys.get(0);
+			keys.set(0, new SortKey(column,
+					key.getSortOrder() == SortOrder.ASCENDING ? SortOrder.DESCENDING : SortOrder.ASCENDING));
+
+		} else {
+
+			keys.remove(index);
+			keys.add(0, new SortKey(column, SortOrder.ASCENDING));
+		}
+
+		if (keys.size() > maxSortKeys) {
+			keys = keys.subList(0, maxSortKeys);
+		}
+
+		setSortKeys(keys);
+	}
+
+	@Override
+	public int convertRowIndexToModel(int index) {
+
+		if (index < 0 || index >= getViewRowCount()) {
+			throw new IndexOutOfBoundsException("Invalid view row index supplied (value=" + index + ")");
+		}
+
+		return (viewToModel == null ? index : viewToModel[index]);
+	}
+
+	@Override
+	public int convertRowIndexToView(int index) {
+
+		if (index < 0 || index >= modelRowCount) {
+			throw new IndexOutOfBoundsException("Invalid model row index supplied (value=" + index + ")");
+		}
+
+		return (modelToView == null ? index : modelToView[index]);
+	}
+
+	@Override
+	public void setSortKeys(List<? extends SortKey> keys) {
+
+		List<SortKey> oldKeys = sortKeys;
+
+		if (keys == null || keys.isEmpty()) {
+
+			sortKeys = Collections.emptyList();
+
+		} else {
+
+			for (SortKey key : keys) {
+				if (key == null) {
+					throw new IllegalArgumentException("Sort keys cannot be null");
+				}
+				checkColumn(key.getColumn());
+			}
+
+			sortKeys = Collections.unmodifiableList(new ArrayList<>(keys));
+		}
+
+		if (!sortKeys.equals(oldKeys)) {
+			fireSortOrderChanged();
+			sort();
+		}
+	}
+
+	@Override
+	public List<? extends SortKey> getSortKeys() {
+		return sortKeys;
+	}
+
+	public int getMaxSortKeys() {
+		return maxSortKeys;
+	}
+
+	/**
+	 *
+	 * @param maxSortKeys
+	 *            - Sort keys kept by {@link #toggleSortOrder(int)}
+	 */
+	public void setMaxSortKeys(int maxSortKeys) {
+
+		if (maxSortKeys < 1) {
+			throw new IllegalArgumentException("Max sort keys must be positive");
+		}
+
+		this.maxSortKeys = maxSortKeys;
+	}
+
+	/**
+	 *
+	 * @return <tt>Rows are sorted again when they are updated</tt>
+	 */
+	public boolean getSortsOnUpdates() {
+		return sortsOnUpdates;
+	}
+
+	/**
+	 *
+	 * @param sortsOnUpdates
+	 *            - <tt>Sort rows again when they are updated</tt>, false by
+	 *            default as for {@link javax.swing.DefaultRowSorter}
+	 */
+	public void setSortsOnUpdates(boolean sortsOnUpdates) {
+		this.sortsOnUpdates = sortsOnUpdates;
+	}
+
+	/**
+	 *
+	 * @return Row predicate of the rows shown, or <tt>null</tt>
+	 */
+	public RowPredicate getRowPredicate() {
+		return rowPredicate;
+	}
+
+	/**
+	 * Filter the rows. As with {@link javax.swing.DefaultRowSorter}, rows
+	 * updated are only filtered again when sorting on updates, or by the next
+	 * row predicate.
+	 *
+	 * @param rowPredicate
+	 *            - Row predicate of the rows shown, or <tt>null</tt> to show
+	 *            every row
+	 * @throws IllegalArgumentException
+	 *             See {@link RowPredicate#compile(ObjectTableModel)}
+	 */
+	public void setRowPredicate(RowPredicate rowPredicate) throws IllegalArgumentException {
+
+		matcher = (rowPredicate == null ? null : rowPredicate.compile(model));
+
+		this.rowPredicate = rowPredicate;
+
+		if (rowPredicate == null || updatedRows != null) {
+			sort();
+		} else if (filterPredicate == null || rowPredicate.implies(filterPredicate)) {
+			refine(true);
+		} else if (filterPredicate.implies(rowPredicate)) {
+			refine(false);
+		} else {
+			sort();
+		}
+	}
+
+	/**
+	 *
+	 * @return Most rows inserted or updated at once that are placed
+	 *         incrementally
+	 */
+	public int getIncrementalLimit() {
+		return incrementalLimit;
+	}
+
+	/**
+	 *
+	 * @param incrementalLimit
+	 *            - Most rows inserted or updated at once that are placed
+	 *            incrementally, more are sorted from scratch
+	 */
+	public void setIncrementalLimit(int incrementalLimit) {
+
+		if (incrementalLimit < 0) {
+			throw new IllegalArgumentException("Incremental limit cannot be negative");
+		}
+
+		this.incrementalLimit = incrementalLimit;
+	}
+
+	/**
+	 *
+	 * @return Executor sorting in the background, or <tt>null</tt>
+	 */
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	/**
+	 *
+	 * @param executor
+	 *            - Executor sorting in the background (see
+	 *            {@link #getDefaultExecutor()}), or <tt>null</tt> to sort on
+	 *            the event dispatch thread
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 *
+	 * @return Executor shared by the sorters of the tables sorting in the
+	 *         background, one daemon thread as each sort is parallel
+	 */
+	public static ExecutorService getDefaultExecutor() {
+
+		ExecutorService result = defaultExecutor;
+
+		if (result == null) {
+
+			synchronized (ObjectRowSorter.class) {
+
+				if (defaultExecutor == null) {
+					defaultExecutor = Executors.newSingleThreadExecutor(runnable -> {
+
+						Thread thread = new Thread(runnable, "Row sorter");
+
+						thread.setDaemon(true);
+
+						return thread;
+					});
+				}
+
+				result = defaultExecutor;
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 *
+	 * @return <tt>A sort is running in the background</tt>
+	 */
+	public boolean isSorting() {
+		return updatedRows != null;
+	}
+
+	@Override
+	public int getViewRowCount() {
+		return (viewToModel == null ? modelRowCount : viewToModel.length);
+	}
+
+	@Override
+	public int getModelRowCount() {
+		return model.getRowCount();
+	}
+
+	/**
+	 * Filter the rows by the row predicate and sort them by the sort keys,
+	 * firing a sorter changed event, right away or once sorted in the
+	 * background.
+	 */
+	public void sort() {
+		sort(null, null, null);
+	}
+
+	/**
+	 * Filter the candidate rows and sort them with the rows known to match,
+	 * right away or in the background.
+	 *
+	 * @param known
+	 *            - Rows (for model) known to match, or <tt>null</tt>
+	 * @param candidates
+	 *            - Rows (for model) to filter, or <tt>null</tt> for every row
+	 * @param oldViewToModel
+	 *            - View to model rows of the last event, when the rows on
+	 *            screen changed since, or <tt>null</tt>
+	 */
+	private void sort(BitSet known, BitSet candidates, int[] oldViewToModel) {
+
+		int[] lastViewToModel = oldViewToModel;
+		Object[] rows = null;
+		BitSet matches = null;
+		int sort = ++sortCount;
+
+		updatedRows = null;
+
+		// Rows updated since are filtered again
+		if (known != null) {
+			known.andNot(staleRows);
+		}
+
+		if (candidates != null) {
+			candidates.or(staleRows);
+		}
+
+		if (executor == null || (sortKeys.isEmpty() && matcher == null)
+				|| model.getRowCount() < MIN_BACKGROUND_ROWS || !submit(sort, known, candidates)) {
+
+			if (lastViewToModel == null) {
+				lastViewToModel = getViewToModel();
+			}
+
+			rows = model.getRows().toArray();
+			matches = (matcher == null ? null : RowPredicate.filter(matcher, rows, candidates, () -> false));
+
+			if (matches != null && known != null) {
+				matches.or(known);
+			}
+
+			modelRowCount = model.getRowCount();
+			comparators = comparators(model.getInvokableColumns(), sortKeys);
+			filter = matcher;
+			filterPredicate = rowPredicate;
+			staleRows.clear();
+			viewToModel = (sortKeys.isEmpty() && matcher == null ? null
+					: view(model.getInvokableColumns(), rows, sortKeys, matches, () -> false));
+			modelToView = (viewToModel == null ? null : invert(viewToModel, modelRowCount));
+
+			fireRowSorterChanged(lastViewToModel);
+
+		} else if (lastViewToModel != null) {
+
+			fireRowSorterChanged(lastViewToModel);
+		}
+	}
+
+	/**
+	 * Filter the rows by a row predicate narrower or wider than the one on
+	 * screen, evaluating only the rows on screen or off screen, and the rows
+	 * updated since the rows on screen were filtered.
+	 */
+	private void refine(boolean isNarrowing) {
+
+		int[] oldViewToModel = null;
+		int[] kept = null;
+		Object[] rows = null;
+		BitSet shown = getShownRows();
+		BitSet known = null;
+		BitSet candidates = (BitSet) shown.clone();
+		BitSet matches = null;
+		BitSet added = null;
+		int count = 0;
+
+		if (!isNarrowing) {
+			known = shown;
+			candidates.flip(0, modelRowCount);
+		}
+
+		candidates.or(staleRows);
+
+		if (executor != null && modelRowCount >= MIN_BACKGROUND_ROWS) {
+
+			sort(known, candidates, null);
+
+		} else {
+
+			oldViewToModel = getViewToModel();
+			kept = new int[oldViewToModel.length];
+			rows = model.getRows().toArray();
+
+			// By model row, far fewer cache misses than in view order
+			matches = RowPredicate.filter(matcher, rows, candidates, () -> false);
+			added = (BitSet) matches.clone();
+			added.andNot(shown);
+
+			// The rows left keep their order
+			for (int modelRow : oldViewToModel) {
+				if (!candidates.get(modelRow) || matches.get(modelRow)) {
+					kept[count++] = modelRow;
+				}
+			}
+
+			comparators = comparators(model.getInvokableColumns(), sortKeys);
+			filter = matcher;
+			filterPredicate = rowPredicate;
+			staleRows.clear();
+
+			if (added.cardinality() <= incrementalLimit) {
+
+				viewToModel = insert(Arrays.copyOf(kept, count), added.stream().toArray());
+
+			} else {
+
+				known = shown;
+				known.andNot(candidates);
+				matches.or(known);
+
+				viewToModel = view(model.getInvokableColumns(), rows, sortKeys, matches, () -> false);
+			}
+
+			modelToView = invert(viewToModel, modelRowCount);
+
+			fireRowSorterChanged(oldViewToModel);
+		}
+	}
+
+	/**
+	 * Filter and sort a snapshot of the rows in the background.
+	 *
+	 * @return <tt>Sort was submitted</tt>
+	 */
+	private boolean submit(int sort, BitSet known, BitSet candidates) {
+
+		List<InvokableColumn> columns = model.getInvokableColumns();
+		List<SortKey> keys = sortKeys;
+		RowPredicate predicate = rowPredicate;
+		Predicate<Object> rowMatcher = matcher;
+		Object[] rows = model.getRows().toArray();
+		int structure = structureCount;
+		boolean result = false;
+
+		try {
+
+			executor.execute(() -> {
+
+				BooleanSupplier isCancelled = () -> sort != sortCount;
+				BitSet matches = (rowMatcher == null ? null
+						: RowPredicate.filter(rowMatcher, rows, candidates, isCancelled));
+				int[] order = null;
+
+				if (rowMatcher == null || matches != null) {
+
+					if (matches != null && known != null) {
+						matches.or(known);
+					}
+
+					order = view(columns, rows, keys, matches, isCancelled);
+				}
+
+				if (order != null) {
+
+					final int[] sorted = order;
+					final int[] inverse = invert(order, rows.length);
+
+					SwingUtilities.invokeLater(
+							() -> swap(sort, structure, keys, predicate, rowMatcher, sorted, inverse));
+				}
+			});
+
+			updatedRows = new BitSet();
+			result = true;
+
+		} catch (RejectedExecutionException e) {
+
+			// Sorted on the event dispatch thread
+		}
+
+		return result;
+	}
+
+	/**
+	 * Swap in the rows filtered and sorted in the background, unless cancelled
+	 * or the snapshot is out of date.
+	 */
+	private void swap(int sort, int structure, List<SortKey> keys, RowPredicate predicate,
+			Predicate<Object> rowMatcher, int[] order, int[] inverse) {
+
+		int[] oldViewToModel = null;
+		BitSet updated = updatedRows;
+
+		if (sort != sortCount) {
+
+			// Cancelled
+
+		} else if (structure != structureCount) {
+
+			sort();
+
+		} else {
+
+			oldViewToModel = getViewToModel();
+
+			updatedRows = null;
+			comparators = comparators(model.getInvokableColumns(), keys);
+			filter = rowMatcher;
+			filterPredicate = predicate;
+			viewToModel = order;
+			modelToView = inverse;
+
+			// Rows updated after the snapshot
+			staleRows.clear();
+
+			if (!sortsOnUpdates) {
+				staleRows.or(updated);
+			}
+
+			if (sortsOnUpdates && !updated.isEmpty() && updated.cardinality() <= incrementalLimit) {
+				viewToModel = insert(remove(viewToModel, updated), matching(updated.stream().toArray()));
+				modelToView = invert(viewToModel, modelRowCount);
+			}
+
+			fireRowSorterChanged(oldViewToModel);
+
+			if (sortsOnUpdates && updated.cardinality() > incrementalLimit) {
+				sort();
+			}
+		}
+	}
+
+	@Override
+	public void modelStructureChanged() {
+
+		List<SortKey> keys = new ArrayList<>(sortKeys);
+
+		// Columns may have gone
+		keys.removeIf(key -> key.getColumn() >= model.getColumnCount());
+
+		sortKeys = Collections.unmodifiableList(keys);
+
+		if (rowPredicate != null) {
+
+			try {
+
+				matcher = rowPredicate.compile(model);
+
+			} catch (IllegalArgumentException e) {
+
+				e.printStackTrace();
+
+				rowPredicate = null;
+				matcher = null;
+			}
+		}
+
+		sort();
+	}
+
+	@Override
+	public void allRowsChanged() {
+		sort();
+	}
+
+	@Override
+	public void rowsInserted(int firstRow, int endRow) {
+
+		int count = endRow - firstRow + 1;
+		int[] oldViewToModel = null;
+
+		checkRange(firstRow, endRow, model.getRowCount() - 1);
+
+		structureCount++;
+		staleRows = shift(staleRows, firstRow, count);
+
+		if (viewToModel == null) {
+
+			modelRowCount = model.getRowCount();
+
+		} else if (count > incrementalLimit && (filter == null || updatedRows != null)) {
+
+			sort();
+
+		} else {
+
+			oldViewToModel = getViewToModel();
+
+			// Rows after the inserted ones moved down in the model
+			for (int i = 0; i < viewToModel.length; i++) {
+				if (viewToModel[i] >= firstRow) {
+					viewToModel[i] += count;
+				}
+			}
+
+			modelRowCount = model.getRowCount();
+
+			if (count > incrementalLimit) {
+
+				// Only the rows inserted are filtered
+				modelToView = invert(viewToModel, modelRowCount);
+
+				sort(getShownRows(), rangeOf(firstRow, endRow), oldViewToModel);
+
+			} else {
+
+				viewToModel = insert(viewToModel, matching(IntStream.rangeClosed(firstRow, endRow).toArray()));
+				modelToView = invert(viewToModel, modelRowCount);
+
+				fireRowSorterChanged(oldViewToModel);
+			}
+		}
+	}
+
+	/**
+	 * Always incremental, deleted rows are dropped in one pass.
+	 */
+	@Override
+	public void rowsDeleted(int firstRow, int endRow) {
+
+		int count = endRow - firstRow + 1;
+		int[] oldViewToModel = null;
+
+		checkRange(firstRow, endRow, modelRowCount - 1);
+
+		structureCount++;
+		staleRows.clear(firstRow, endRow + 1);
+		staleRows = shift(staleRows, endRow + 1, -count);
+
+		if (viewToModel == null) {
+
+			modelRowCount = model.getRowCount();
+
+		} else {
+
+			oldViewToModel = getViewToModel();
+
+			modelRowCount = model.getRowCount();
+			viewToModel = remove(viewToModel, firstRow, endRow, count);
+			modelToView = invert(viewToModel, modelRowCount);
+
+			fireRowSorterChanged(oldViewToModel);
+		}
+	}
+
+	@Override
+	public void rowsUpdated(int firstRow, int endRow) {
+
+		int[] oldViewToModel = null;
+		BitSet known = null;
+
+		checkRange(firstRow, endRow, modelRowCount - 1);
+
+		if (updatedRows != null) {
+			updatedRows.set(firstRow, endRow + 1);
+		}
+
+		if (!sortsOnUpdates) {
+			staleRows.set(firstRow, endRow + 1);
+		}
+
+		if (!sortsOnUpdates || viewToModel == null) {
+
+			// Stays where it is
+
+		} else if (endRow - firstRow + 1 > incrementalLimit && (filter == null || updatedRows != null)) {
+
+			sort();
+
+		} else if (endRow - firstRow + 1 > incrementalLimit) {
+
+			// Only the rows updated are filtered
+			known = getShownRows();
+			known.clear(firstRow, endRow + 1);
+
+			sort(known, rangeOf(firstRow, endRow), null);
+
+		} else if (firstRow == endRow && modelToView[firstRow] >= 0
+				&& (filter == null || filter.test(model.getRow(firstRow)))) {
+
+			if (!isInOrder(firstRow)) {
+
+				oldViewToModel = getViewToModel();
+
+				move(firstRow);
+
+				fireRowSorterChanged(oldViewToModel);
+			}
+
+		} else {
+
+			oldViewToModel = getViewToModel();
+
+			viewToModel = insert(remove(viewToModel, firstRow, endRow, 0),
+					matching(IntStream.rangeClosed(firstRow, endRow).toArray()));
+			modelToView = invert(viewToModel, modelRowCount);
+
+			fireRowSorterChanged(oldViewToModel);
+		}
+	}
+
+	@Override
+	public void rowsUpdated(int firstRow, int endRow, int column) {
+
+		checkColumn(column);
+
+		// Any column may be filtered on
+		if (isSortKey(column) || matcher != null || filter != null) {
+			rowsUpdated(firstRow, endRow);
+		} else {
+			checkRange(firstRow, endRow, modelRowCount - 1);
+		}
+	}
+
+	/**
+	 *
+	 * @return Copy of the view to model permutation, for the sorter changed
+	 *         event to map the previous selection
+	 */
+	private int[] getViewToModel() {
+
+		int[] result = null;
+
+		if (viewToModel != null) {
+
+			result = viewToModel.clone();
+
+		} else {
+
+			result = new int[modelRowCount];
+
+			for (int i = 0; i < result.length; i++) {
+				result[i] = i;
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 *
+	 * @return <tt>Row is ordered between its neighbours</tt>
+	 */
+	private boolean isInOrder(int modelRow) {
+
+		int view = modelToView[modelRow];
+
+		return (view == 0 || compare(viewToModel[view - 1], modelRow) < 0)
+				&& (view == viewToModel.length - 1 || compare(modelRow, viewToModel[view + 1]) < 0);
+	}
+
+	/**
+	 * Move an updated row to its new position, shifting only the rows in
+	 * between.
+	 */
+	private void move(int modelRow) {
+
+		int from = modelToView[modelRow];
+		int to = 0;
+		int low = 0;
+		int high = viewToModel.length - 1;
+		int middle = 0;
+
+		// First position of the others ordered after the row
+		while (low < high) {
+
+			middle = (low + high) >>> 1;
+
+			if (compare(viewToModel[middle < from ? middle : middle + 1], modelRow) > 0) {
+				high = middle;
+			} else {
+				low = middle + 1;
+			}
+		}
+
+		to = low;
+
+		if (to < from) {
+			System.arraycopy(viewToModel, to, viewToModel, to + 1, from - to);
+		} else {
+			System.arraycopy(viewToModel, from + 1, viewToModel, from, to - from);
+		}
+
+		viewToModel[to] = modelRow;
+
+		for (int i = Math.min(from, to); i <= Math.max(from, to); i++) {
+			modelToView[viewToModel[i]] = i;
+		}
+	}
+
+	/**
+	 *
+	 * @param sorted
+	 *            - Permutation without the rows
+	 * @return Permutation with the rows placed by binary search
+	 */
+	private int[] insert(int[] sorted, int[] modelRows) {
+
+		Integer[] rows = new Integer[modelRows.length];
+		int[] positions = new int[rows.length];
+		int[] result = new int[sorted.length + rows.length];
+		int low = 0;
+		int high = 0;
+		int middle = 0;
+		int from = 0;
+
+		for (int i = 0; i < rows.length; i++) {
+			rows[i] = modelRows[i];
+		}
+
+		Arrays.sort(rows, this::compare);
+
+		// Positions of sorted rows never decrease
+		for (int i = 0; i < rows.length; i++) {
+
+			low = (i == 0 ? 0 : positions[i - 1]);
+			high = sorted.length;
+
+			while (low < high) {
+
+				middle = (low + high) >>> 1;
+
+				if (compare(sorted[middle], rows[i]) > 0) {
+					high = middle;
+				} else {
+					low = middle + 1;
+				}
+			}
+
+			positions[i] = low;
+		}
+
+		for (int i = 0; i < rows.length; i++) {
+			System.arraycopy(sorted, from, result, from + i, positions[i] - from);
+			result[positions[i] + i] = rows[i];
+			from = positions[i];
+		}
+
+		System.arraycopy(sorted, from, result, from + rows.length, sorted.length - from);
+
+		return result;
+	}
+
+	/**
+	 *
+	 * @param shift
+	 *            - Subtracted from the model rows after the range, the number
+	 *            of rows deleted or 0
+	 * @return Permutation without the rows of the range
+	 */
+	private static int[] remove(int[] sorted, int firstRow, int endRow, int shift) {
+
+		int[] result = new int[sorted.length];
+		int count = 0;
+
+		for (int row : sorted) {
+			if (row < firstRow) {
+				result[count++] = row;
+			} else if (row > endRow) {
+				result[count++] = row - shift;
+			}
+		}
+
+		// Rows filtered out are not in the permutation
+		return (count == result.length ? result : Arrays.copyOf(result, count));
+	}
+
+	/**
+	 *
+	 * @return Permutation without the rows
+	 */
+	private static int[] remove(int[] sorted, BitSet rows) {
+
+		int[] result = new int[sorted.length];
+		int count = 0;
+
+		for (int row : sorted) {
+			if (!rows.get(row)) {
+				result[count++] = row;
+			}
+		}
+
+		return Arrays.copyOf(result, count);
+	}
+
+	/**
+	 *
+	 * @return Rows (for model) on screen
+	 */
+	private BitSet getShownRows() {
+
+		BitSet result = new BitSet(modelRowCount);
+
+		if (viewToModel == null) {
+
+			result.set(0, modelRowCount);
+
+		} else {
+
+			for (int row : viewToModel) {
+				result.set(row);
+			}
+		}
+
+		return result;
+	}
+
+	private static BitSet rangeOf(int firstRow, int endRow) {
+
+		BitSet result = new BitSet(endRow + 1);
+
+		result.set(firstRow, endRow + 1);
+
+		return result;
+	}
+
+	/**
+	 *
+	 * @param shift
+	 *            - Added to the rows from the row on
+	 * @return Rows (for model) renumbered after rows were inserted or deleted
+	 */
+	private static BitSet shift(BitSet rows, int fromRow, int shift) {
+
+		BitSet result = rows.get(0, fromRow);
+
+		for (int i = rows.nextSetBit(fromRow); i >= 0; i = rows.nextSetBit(i + 1)) {
+			result.set(i + shift);
+		}
+
+		return result;
+	}
+
+	/**
+	 *
+	 * @param modelRows
+	 *            - Rows (for model)
+	 * @return Rows matching the row predicate of the rows on screen
+	 */
+	private int[] matching(int[] modelRows) {
+
+		int[] result = modelRows;
+		int count = 0;
+
+		if (filter != null) {
+
+			result = new int[modelRows.length];
+
+			for (int row : modelRows) {
+				if (filter.test(model.getRow(row))) {
+					result[count++] = row;
+				}
+			}
+
+			result = Arrays.copyOf(result, count);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Order of the sort keys, then of the model
+	 */
+	private int compare(int modelRowA, int modelRowB) {
+
+		Object a = model.getRow(modelRowA);
+		Object b = model.getRow(modelRowB);
+		int result = 0;
+
+		for (int i = 0; i < comparators.length && result == 0; i++) {
+			result = comparators[i].compare(a, b);
+		}
+
+		return (result == 0 ? Integer.compare(modelRowA, modelRowB) : result);
+	}
+
+	private boolean isSortKey(int column) {
+
+		boolean result = false;
+
+		for (SortKey key : sortKeys) {
+			if (key.getColumn() == column) {
+				result = true;
+				break;
+			}
+		}
+
+		return result;
+	}
+
+	private void checkColumn(int column) {
+		if (column < 0 || column >= model.getColumnCount()) {
+			throw new IndexOutOfBoundsException("Invalid column index supplied (value=" + column + ")");
+		}
+	}
+
+	private static void checkRange(int firstRow, int endRow, int maxRow) {
+		if (firstRow < 0 || endRow < firstRow || firstRow > maxRow) {
+			throw new IndexOutOfBoundsException(
+					"Invalid row range supplied (first=" + firstRow + ", end=" + endRow + ", max=" + maxRow + ")");
+		}
+	}
+
+	/**
+	 *
+	 * @param columns
+	 *            - Columns of the model
+	 * @param rows
+	 *            - Rows, in model order
+	 * @param keys
+	 *            - Sort keys
+	 * @param isCancelled
+	 *            - Checked between sort keys
+	 * @return View to model permutation of the rows, or <tt>null</tt> when
+	 *         cancelled
+	 */
+	static int[] order(List<InvokableColumn> columns, Object[] rows, List<? extends SortKey> keys,
+			BooleanSupplier isCancelled) {
+
+		int[] result = new int[rows.length];
+		int[] next = new int[rows.length];
+		long[] packed = new long[rows.length];
+		int[] ranks = null;
+		int[] swap = null;
+		SortKey key = null;
+
+		for (int i = 0; i < result.length; i++) {
+			result[i] = i;
+		}
+
+		// Least significant key first, each pass is stable
+		for (int k = keys.size() - 1; k >= 0; k--) {
+
+			key = keys.get(k);
+
+			if (isCancelled.getAsBoolean()) {
+				result = null;
+				break;
+			}
+
+			if (key.getSortOrder() != SortOrder.UNSORTED) {
+
+				ranks = ColumnKeys.rank(columns.get(key.getColumn()), rows, key.getSortOrder() == SortOrder.DESCENDING);
+
+				for (int i = 0; i < result.length; i++) {
+					packed[i] = ((long) ranks[result[i]] << 32) | i;
+				}
+
+				Arrays.parallelSort(packed);
+
+				for (int i = 0; i < result.length; i++) {
+					next[i] = result[(int) packed[i]];
+				}
+
+				swap = result;
+				result = next;
+				next = swap;
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 *
+	 * @param columns
+	 *            - Columns of the model
+	 * @param rows
+	 *            - Rows, in model order
+	 * @param keys
+	 *            - Sort keys
+	 * @param matches
+	 *            - Rows matching the row predicate, or <tt>null</tt> for
+	 *            every row
+	 * @param isCancelled
+	 *            - Checked between sort keys
+	 * @return View to model rows of the rows matching, or <tt>null</tt> when
+	 *         cancelled
+	 */
+	static int[] view(List<InvokableColumn> columns, Object[] rows, List<? extends SortKey> keys, BitSet matches,
+			BooleanSupplier isCancelled) {
+
+		Object[] matched = null;
+		int[] modelRows = null;
+		int[] result = null;
+
+		if (matches == null) {
+
+			result = order(columns, rows, keys, isCancelled);
+
+		} else {
+
+			modelRows = matches.stream().toArray();
+
+			if (keys.isEmpty()) {
+
+				result = modelRows;
+
+			} else {
+
+				matched = new Object[modelRows.length];
+
+				for (int i = 0; i < modelRows.length; i++) {
+					matched[i] = rows[modelRows[i]];
+				}
+
+				result = order(columns, matched, keys, isCancelled);
+
+				for (int i = 0; result != null && i < result.length; i++) {
+					result[i] = modelRows[result[i]];
+				}
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 *
+	 * @return Row comparators of the sort keys that are not unsorted
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	static Comparator<Object>[] comparators(List<InvokableColumn> columns, List<? extends SortKey> keys) {
+
+		List<Comparator<Object>> result = new ArrayList<>();
+
+		for (SortKey key : keys) {
+			if (key.getSortOrder() == SortOrder.ASCENDING) {
+				result.add(columns.get(key.getColumn()).getRowComparator());
+			} else if (key.getSortOrder() == SortOrder.DESCENDING) {
+				result.add(columns.get(key.getColumn()).getRowComparator().reversed());
+			}
+		}
+
+		return result.toArray(new Comparator[result.size()]);
+	}
+
+	/**
+	 *
+	 * @param viewToModel
+	 *            - View to model rows
+	 * @param modelRowCount
+	 *            - Rows in the model
+	 * @return Model to view rows, -1 for rows filtered out
+	 */
+	static int[] invert(int[] viewToModel, int modelRowCount) {
+
+		int[] result = new int[modelRowCount];
+
+		if (viewToModel.length < modelRowCount) {
+			Arrays.fill(result, -1);
+		}
+
+		IntStream.range(0, viewToModel.length).parallel().forEach(i -> result[viewToModel[i]] = i);
+
+		return result;
+	}
+}
@@ -0,0 +1,1000 @@
+package javax.swing.table.object;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * <p>
+ * Table model with one object per row and one {@link InvokableColumn} per
+ * column.
+ * </p>
+ * <p>
+ * Rows are kept in a plain {@link List} ({@link ArrayList} unless another list
+ * is supplied), so there is no per-row {@link java.util.Vector} or hidden
+ * column holding the object.
+ * </p>
+ * 
+ * @author Antony Hixson
+ *
+ */
+public class ObjectTableModel<T> extends AbstractTableModel {
+
+	/**
+	 * 
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Above this many separate ranges, a removal fires one data changed event
+	 * instead of one delete event per range.
+	 */
+	public static final int MAX_COALESCED_RANGES = 16;
+
+	private final List<InvokableColumn> columns;
+	private final List<T> rows;
+	private final List<UniqueIndex> uniqueIndexes;
+	private RowIndexMode rowIndexMode;
+	private RowIndex rowIndex;
+	private UniqueIndex keyIndex;
+
+	/**
+	 * 
+	 * @param columns
+	 *            - Columns, in model order
+	 */
+	public ObjectTableModel(List<InvokableColumn> columns) {
+		this(columns, new ArrayList<>());
+	}
+
+	/**
+	 * 
+	 * @param columns
+	 *            - Columns, in model order
+	 * @param rows
+	 *            - Row storage, used directly (not copied)
+	 * @throws IllegalArgumentException
+	 *             The rows hold duplicate values for a unique column
+	 */
+	public ObjectTableModel(List<InvokableColumn> columns, List<T> rows) {
+		this(columns, rows, true);
+	}
+
+	/**
+	 * 
+	 * @param columns
+	 *            - Columns, in model order
+	 * @param rows
+	 *            - Row storage, used directly (not copied)
+	 * @param indexed
+	 *            - <tt>Unique columns are indexed and enforced</tt>, which
+	 *            reads every row up front
+	 * @throws IllegalArgumentException
+	 *             The rows hold duplicate values for a unique column
+	 */
+	protected ObjectTableModel(List<InvokableColumn> columns, List<T> rows, boolean indexed) {
+
+		if (columns == null || rows == null) {
+			throw new NullPointerException("Columns and rows cannot be null");
+		}
+
+		this.columns = columns;
+		this.rows = rows;
+		this.uniqueIndexes = new ArrayList<>();
+		this.rowIndexMode = RowIndexMode.NONE;
+		this.rowIndex = null;
+		this.keyIndex = null;
+
+		for (int i = 0; indexed && i < columns.size(); i++) {
+			if (columns.get(i).unique()) {
+				uniqueIndexes.add(new UniqueIndex(columns.get(i), i));
+			}
+		}
+
+		if (!uniqueIndexes.isEmpty()) {
+			requireUnique(rows, true, null);
+			rows.forEach(this::indexAdd);
+		}
+	}
+
+	@Override
+	public int getRowCount() {
+		return rows.size();
+	}
+
+	@Override
+	public int getColumnCount() {
+		return columns.size();
+	}
+
+	@Override
+	public String getColumnName(int column) {
+		return columns.get(column).name();
+	}
+
+	@Override
+	public Class<?> getColumnClass(int column) {
+		return wrap(columns.get(column).getType());
+	}
+
+	@Override
+	public boolean isCellEditable(int row, int column) {
+		return true;
+	}
+
+	@Override
+	public Object getValueAt(int row, int column) {
+		return columns.get(column).getValue(rows.get(row));
+	}
+
+	/**
+	 * @throws IllegalArgumentException
+	 *             Value is already held by another row of a unique column
+	 */
+	@Override
+	public void setValueAt(Object aValue, int row, int column) throws IllegalArgumentException {
+
+		if (writeValueAt(aValue, row, column)) {
+			fireTableCellUpdated(row, column);
+		}
+	}
+
+	/**
+	 * Same as {@link #setValueAt(Object, int, int)} without firing an event,
+	 * for callers that notify listeners or repaint the cell themselves (e.g.
+	 * {@link RowUpdateQueue} coalescing events).
+	 * 
+	 * @param aValue
+	 *            - New value
+	 * @param row
+	 *            - Row (for model)
+	 * @param column
+	 *            - Column (for model)
+	 * @return <tt>Value was written</tt>
+	 * @throws IllegalArgumentException
+	 *             Value is already held by another row of a unique column
+	 */
+	public boolean writeValueAt(Object aValue, int row, int column) throws IllegalArgumentException {
+
+		boolean result = false;
+		T rowObject = rows.get(row);
+		UniqueIndex uniqueIndex = getUniqueIndex(column);
+		Object oldKey = null;
+
+		if (uniqueIndex != null) {
+			uniqueIndex.requireAvailable(aValue, rowObject);
+			oldKey = columns.get(column).getValue(rowObject);
+		}
+
+		if (columns.get(column).setValue(rowObject, aValue)) {
+			if (uniqueIndex != null) {
+				uniqueIndex.replaceKey(rowObject, oldKey, columns.get(column).getValue(rowObject));
+			}
+			if (rowIndexMode == RowIndexMode.EQUALITY) {
+				rowIndex.invalidate();
+			}
+			result = true;
+		}
+
+		return result;
+	}
+
+	/**
+	 * 
+	 * @param column
+	 *            - Column index (for model)
+	 * @param aValue
+	 *            - Candidate value
+	 * @param row
+	 *            - (optional) row (for model) that would hold the value, or
+	 *            -1
+	 * @return <tt>Value can be put in the column</tt>, always <tt>true</tt>
+	 *         for columns that are not unique
+	 */
+	public boolean isKeyAvailable(int column, Object aValue, int row) {
+
+		UniqueIndex uniqueIndex = getUniqueIndex(column);
+
+		return uniqueIndex == null || uniqueIndex.isAvailable(aValue, row < 0 ? null : rows.get(row));
+	}
+
+	/**
+	 * Find a row by the value of a unique column in constant time.
+	 * 
+	 * @param columnName
+	 *            - Name of a {@link Column#unique()} column
+	 * @param key
+	 *            - Column value
+	 * @return Row object holding the value, or <tt>null</tt>
+	 * @throws IllegalArgumentException
+	 *             No unique column has that name
+	 */
+	@SuppressWarnings("unchecked")
+	public T findByKey(String columnName, Object key) throws IllegalArgumentException {
+		return (T) getUniqueIndex(columnName).get(key);
+	}
+
+	/**
+	 * Rebuild the unique column indexes, after row objects were changed
+	 * outside of the model.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             The rows now hold duplicate values for a unique column
+	 */
+	public void rebuildUniqueIndexes() throws IllegalArgumentException {
+
+		uniqueIndexes.forEach(UniqueIndex::clear);
+
+		requireUnique(rows, true, null);
+		rows.forEach(this::indexAdd);
+	}
+
+	/**
+	 * 
+	 * @return How rows are looked up by object
+	 */
+	public RowIndexMode getRowIndexMode() {
+		return rowIndexMode;
+	}
+
+	/**
+	 * Choose how rows are looked up by object. The index is built lazily on
+	 * the next lookup.
+	 * 
+	 * @param rowIndexMode
+	 *            - Index mode
+	 */
+	public void setRowIndexMode(RowIndexMode rowIndexMode) {
+
+		if (rowIndexMode == null) {
+			throw new NullPointerException("Row index mode cannot be null");
+		}
+
+		this.rowIndexMode = rowIndexMode;
+		this.rowIndex = rowIndexMode == RowIndexMode.NONE ? null : new RowIndex(rowIndexMode);
+	}
+
+	/**
+	 * 
+	 * @param aValue
+	 *            - Object to find
+	 * @return First row (for model) holding the object, or -1
+	 */
+	public int indexOf(Object aValue) {
+
+		int result = -1;
+
+		if (rowIndex != null) {
+			result = rowIndex.firstRowOf(aValue, rows);
+		} else {
+			result = rows.indexOf(aValue);
+		}
+
+		return result;
+	}
+
+	/**
+	 * 
+	 * @param aValue
+	 *            - Object to find
+	 * @return <tt>Object is in the model</tt>
+	 */
+	public boolean contains(Object aValue) {
+
+		boolean result = false;
+
+		if (rowIndex != null) {
+			result = rowIndex.contains(aValue, rows);
+		} else {
+			result = rows.contains(aValue);
+		}
+
+		return result;
+	}
+
+	/**
+	 * 
+	 * @param aValue
+	 *            - Object to find
+	 * @return Ascending rows (for model) holding the object
+	 */
+	public int[] indicesOf(Object aValue) {
+
+		int[] result = null;
+		int count = 0;
+
+		if (rowIndex != null) {
+
+			result = rowIndex.rowsOf(aValue, rows);
+
+		} else {
+
+			result = new int[8];
+
+			for (int i = 0; i < rows.size(); i++) {
+				if (matches(aValue, rows.get(i))) {
+					if (count == result.length) {
+						result = Arrays.copyOf(result, count * 2);
+					}
+					result[count++] = i;
+				}
+			}
+
+			result = Arrays.copyOf(result, count);
+		}
+
+		return result;
+	}
+
+	/**
+	 * 
+	 * @param column
+	 *            - Column index (for model)
+	 * @return InvokableColumn for that index
+	 */
+	public InvokableColumn getInvokableColumn(int column) {
+		return columns.get(column);
+	}
+
+	/**
+	 * 
+	 * @return Unmodifiable view of the columns
+	 */
+	public List<InvokableColumn> getInvokableColumns() {
+		return Collections.unmodifiableList(columns);
+	}
+
+	/**
+	 * 
+	 * @param row
+	 *            - Row index (for model)
+	 * @return Object at that row
+	 */
+	public T getRow(int row) {
+		return rows.get(row);
+	}
+
+	/**
+	 * Replace the object at a row.
+	 * 
+	 * @param row
+	 *            - Row index (for model)
+	 * @param aValue
+	 *            - New object
+	 */
+	public void setRow(int row, T aValue) {
+
+		if (aValue == null) {
+			throw new NullPointerException("No value supplied");
+		}
+
+		requireUnique(Collections.singletonList(aValue), false, rows.get(row));
+
+		replaceRow(row, aValue);
+
+		fireTableRowsUpdated(row, row);
+	}
+
+	/**
+	 * 
+	 * @return Name of the key column, or <tt>null</tt> when not keyed
+	 */
+	public String getKeyColumn() {
+		return keyIndex == null ? null : keyIndex.getColumn().name();
+	}
+
+	/**
+	 * <p>
+	 * Use a unique column as the row key for {@link #upsert(Object)} and
+	 * {@link #replaceAll(Collection)}.
+	 * </p>
+	 * <p>
+	 * Keyed mode needs row positions, so an {@link RowIndexMode#IDENTITY}
+	 * row index is enabled when there is none.
+	 * </p>
+	 * 
+	 * @param columnName
+	 *            - Name of a {@link Column#unique()} column, or <tt>null</tt>
+	 *            to leave keyed mode
+	 * @throws IllegalArgumentException
+	 *             No unique column has that name
+	 */
+	public void setKeyColumn(String columnName) throws IllegalArgumentException {
+
+		keyIndex = columnName == null ? null : getUniqueIndex(columnName);
+
+		if (keyIndex != null && rowIndexMode == RowIndexMode.NONE) {
+			setRowIndexMode(RowIndexMode.IDENTITY);
+		}
+	}
+
+	/**
+	 * Replace the row with the same key, or append the object when the key is
+	 * new.
+	 * 
+	 * @param aValue
+	 *            - New object
+	 * @return Row (for model) holding the object
+	 * @throws IllegalStateException
+	 *             Model is not keyed
+	 */
+	public int upsert(T aValue) throws IllegalStateException {
+
+		Object existing = null;
+		int row = -1;
+
+		if (aValue == null) {
+			throw new NullPointerException("No value supplied");
+		}
+
+		existing = requireKeyIndex().get(requireKey(aValue));
+
+		if (existing == null) {
+			addRow(aValue);
+			row = rows.size() - 1;
+		} else {
+			row = indexOf(existing);
+			setRow(row, aValue);
+		}
+
+		return row;
+	}
+
+	/**
+	 * <p>
+	 * Make the rows match a snapshot, matching rows by key.
+	 * </p>
+	 * <p>
+	 * Rows whose key is missing from the snapshot are deleted (one delete
+	 * event per range, however many), rows whose column values changed are
+	 * replaced and fire ranged update events, and new keys are appended with
+	 * one insert event. Unchanged rows keep their object and fire nothing, so
+	 * selection and painting are kept.
+	 * </p>
+	 * 
+	 * @param values
+	 *            - Complete, current set of objects
+	 * @throws IllegalStateException
+	 *             Model is not keyed
+	 * @throws IllegalArgumentException
+	 *             The snapshot holds duplicate values for a unique column
+	 */
+	public void replaceAll(Collection<? extends T> values) throws IllegalStateException, IllegalArgumentException {
+
+		UniqueIndex keys = requireKeyIndex();
+		Map<Object, T> snapshot = new LinkedHashMap<>();
+		int[] deleted = new int[rows.size()];
+		int[] updated = new int[rows.size()];
+		int deletedCount = 0;
+		int updatedCount = 0;
+		List<T> inserted = new ArrayList<>();
+		T oldValue = null;
+		T newValue = null;
+
+		requireNoNulls(values);
+		requireUnique(values, true, null);
+
+		for (T value : values) {
+			snapshot.put(requireKey(value), value);
+		}
+
+		// 1. Deletions
+		for (int i = 0; i < rows.size(); i++) {
+			if (!snapshot.containsKey(keys.getColumn().getValue(rows.get(i)))) {
+				deleted[deletedCount++] = i;
+			}
+		}
+
+		removeRows(Arrays.copyOf(deleted, deletedCount), false);
+
+		// 2. Updates, in place
+		for (int i = 0; i < rows.size(); i++) {
+
+			oldValue = rows.get(i);
+			newValue = snapshot.remove(keys.getColumn().getValue(oldValue));
+
+			// Listeners tracking rows by identity learn of a new object
+			// through its update event
+			if (newValue != oldValue && !isSameRow(oldValue, newValue)) {
+				updated[updatedCount++] = i;
+				replaceRow(i, newValue);
+			}
+		}
+
+		fireRowRangesUpdated(Arrays.copyOf(updated, updatedCount));
+
+		// 3. Insertions, keys left in the snapshot are new
+		inserted.addAll(snapshot.values());
+
+		addRows(inserted);
+	}
+
+	/**
+	 * Append an object as a new row.
+	 * 
+	 * @param aValue
+	 *            - New object
+	 */
+	public void addRow(T aValue) {
+		insertRow(rows.size(), aValue);
+	}
+
+	/**
+	 * Insert an object as a new row.
+	 * 
+	 * @param row
+	 *            - Row index (for model)
+	 * @param aValue
+	 *            - New object
+	 */
+	public void insertRow(int row, T aValue) {
+
+		if (aValue == null) {
+			throw new NullPointerException("No value supplied");
+		}
+
+		requireUnique(Collections.singletonList(aValue), false, null);
+
+		rows.add(row, aValue);
+		indexAdd(aValue);
+
+		if (rowIndex != null) {
+			rowIndex.inserted(aValue, row);
+		}
+
+		fireTableRowsInserted(row, row);
+	}
+
+	/**
+	 * Append objects as new rows, with a single insert event.
+	 * 
+	 * @param values
+	 *            - New objects
+	 */
+	public void addRows(Collection<? extends T> values) {
+
+		int firstRow = rows.size();
+
+		requireNoNulls(values);
+		requireUnique(values, false, null);
+
+		if (!values.isEmpty()) {
+
+			rows.addAll(values);
+			values.forEach(this::indexAdd);
+
+			if (rowIndex != null) {
+				for (int i = firstRow; i < rows.size(); i++) {
+					rowIndex.appended(rows.get(i), i);
+				}
+			}
+
+			fireTableRowsInserted(firstRow, rows.size() - 1);
+		}
+	}
+
+	/**
+	 * Replace all rows, with a single data changed event.
+	 * 
+	 * @param values
+	 *            - New objects
+	 */
+	public void setRows(Collection<? extends T> values) {
+
+		requireNoNulls(values);
+		requireUnique(values, true, null);
+
+		rows.clear();
+		rows.addAll(values);
+
+		uniqueIndexes.forEach(UniqueIndex::clear);
+		values.forEach(this::indexAdd);
+
+		if (rowIndex != null) {
+			rowIndex.invalidate();
+		}
+
+		fireTableDataChanged();
+	}
+
+	/**
+	 * Remove every row equal to one of the values, see
+	 * {@link #removeRows(int[])}.
+	 * 
+	 * @param values
+	 *            - Objects to remove
+	 * @return Number of rows removed
+	 */
+	public int removeRows(Collection<?> values) {
+
+		int[] matches = null;
+		int count = 0;
+		Set<Object> lookup = null;
+
+		if (rowIndex != null) {
+
+			matches = values.stream().map(this::indicesOf).flatMapToInt(Arrays::stream).sorted()
+					.distinct().toArray();
+
+		} else {
+
+			lookup = rowIndexMode == RowIndexMode.IDENTITY ? Collections.newSetFromMap(new IdentityHashMap<>())
+					: new HashSet<>();
+			lookup.addAll(values);
+			matches = new int[rows.size()];
+
+			for (int i = 0; i < rows.size(); i++) {
+				if (lookup.contains(rows.get(i))) {
+					matches[count++] = i;
+				}
+			}
+
+			matches = Arrays.copyOf(matches, count);
+		}
+
+		return removeRows(matches);
+	}
+
+	/**
+	 * Remove every row equal to the value, see {@link #removeRows(int[])}.
+	 * 
+	 * @param aValue
+	 *            - Object to remove
+	 * @return Number of rows removed
+	 */
+	public int removeAll(Object aValue) {
+		return removeRows(indicesOf(aValue));
+	}
+
+	/**
+	 * <p>
+	 * Remove several rows in one pass.
+	 * </p>
+	 * <p>
+	 * Adjacent rows are coalesced into ranges and one delete event is fired
+	 * per range, last range first. Above {@link #MAX_COALESCED_RANGES} ranges
+	 * the rows are compacted in a single pass and one data changed event is
+	 * fired instead.
+	 * </p>
+	 * 
+	 * @param sortedRows
+	 *            - Ascending, distinct rows (for model)
+	 * @return Number of rows removed
+	 */
+	public int removeRows(int[] sortedRows) {
+		return removeRows(sortedRows, true);
+	}
+
+	/**
+	 * 
+	 * @param isCompacting
+	 *            - <tt>Above {@link #MAX_COALESCED_RANGES} ranges, fire one
+	 *            data changed event</tt>, otherwise one delete event per
+	 *            range always, keeping the selection
+	 * @return Number of rows removed
+	 */
+	private int removeRows(int[] sortedRows, boolean isCompacting) {
+
+		int ranges = 0;
+		int end = 0;
+		int start = 0;
+		int write = 0;
+		int next = 0;
+
+		for (int i = 0; i < sortedRows.length; i++) {
+			if (i == 0 || sortedRows[i] != sortedRows[i - 1] + 1) {
+				ranges++;
+			}
+		}
+
+		for (int row : sortedRows) {
+			indexRemove(rows.get(row));
+		}
+
+		// Last row first, so each row is still where it was
+		if (rowIndex != null) {
+			for (int i = sortedRows.length - 1; i >= 0; i--) {
+				rowIndex.removed(rows.get(sortedRows[i]), sortedRows[i]);
+			}
+		}
+
+		if (isCompacting && ranges > MAX_COALESCED_RANGES) {
+
+			for (int read = 0; read < rows.size(); read++) {
+				if (next < sortedRows.length && sortedRows[next] == read) {
+					next++;
+				} else {
+					rows.set(write++, rows.get(read));
+				}
+			}
+
+			rows.subList(write, rows.size()).clear();
+
+			fireTableDataChanged();
+
+		} else {
+
+			end = sortedRows.length - 1;
+
+			while (end >= 0) {
+
+				start = end;
+
+				while (start > 0 && sortedRows[start - 1] == sortedRows[start] - 1) {
+					start--;
+				}
+
+				rows.subList(sortedRows[start], sortedRows[end] + 1).clear();
+				fireTableRowsDeleted(sortedRows[start], sortedRows[end]);
+
+				end = start - 1;
+			}
+		}
+
+		return sortedRows.length;
+	}
+
+	/**
+	 * Remove a row.
+	 * 
+	 * @param row
+	 *            - Row index (for model)
+	 * @return Removed object
+	 */
+	public T removeRow(int row) {
+
+		T result = rows.get(row);
+
+		removeRows(new int[] { row });
+
+		return result;
+	}
+
+	/**
+	 * 
+	 * @return Unmodifiable view of the rows
+	 */
+	public List<T> getRows() {
+		return Collections.unmodifiableList(rows);
+	}
+
+	/**
+	 * Swap the object at a row without firing an event.
+	 */
+	private void replaceRow(int row, T aValue) {
+
+		T oldValue = rows.set(row, aValue);
+
+		indexRemove(oldValue);
+		indexAdd(aValue);
+
+		if (rowIndex != null) {
+			rowIndex.replaced(oldValue, aValue, row);
+		}
+	}
+
+	/**
+	 * Fire one update event per run of adjacent rows.
+	 * 
+	 * @param sortedRows
+	 *            - Ascending, distinct rows (for model)
+	 */
+	void fireRowRangesUpdated(int[] sortedRows) {
+
+		int start = 0;
+		int end = 0;
+
+		while (start < sortedRows.length) {
+
+			end = start;
+
+			while (end + 1 < sortedRows.length && sortedRows[end + 1] == sortedRows[end] + 1) {
+				end++;
+			}
+
+			fireTableRowsUpdated(sortedRows[start], sortedRows[end]);
+
+			start = end + 1;
+		}
+	}
+
+	/**
+	 * 
+	 * @return <tt>Every value column holds equal values</tt> (action columns
+	 *         are not invoked)
+	 */
+	private boolean isSameRow(T a, T b) {
+
+		boolean result = true;
+		Class<?> type = null;
+
+		for (int i = 0; result && i < columns.size(); i++) {
+
+			type = columns.get(i).getType();
+
+			if (!type.equals(void.class) && !type.equals(Runnable.class)) {
+				result = Objects.equals(columns.get(i).getValue(a), columns.get(i).getValue(b));
+			}
+		}
+
+		return result;
+	}
+
+	private UniqueIndex requireKeyIndex() throws IllegalStateException {
+
+		if (keyIndex == null) {
+			throw new IllegalStateException("No key column set");
+		}
+
+		return keyIndex;
+	}
+
+	private Object requireKey(T aValue) {
+
+		Object key = keyIndex.getColumn().getValue(aValue);
+
+		if (key == null) {
+			throw new NullPointerException("No key supplied for column \"" + keyIndex.getColumn().name() + "\"");
+		}
+
+		return key;
+	}
+
+	private UniqueIndex getUniqueIndex(int column) {
+
+		UniqueIndex result = null;
+
+		for (UniqueIndex uniqueIndex : uniqueIndexes) {
+			if (uniqueIndex.getColumnIndex() == column) {
+				result = uniqueIndex;
+			}
+		}
+
+		return result;
+	}
+
+	private UniqueIndex getUniqueIndex(String columnName) throws IllegalArgumentException {
+
+		UniqueIndex result = null;
+
+		for (UniqueIndex uniqueIndex : uniqueIndexes) {
+			if (uniqueIndex.getColumn().name().equals(columnName)) {
+				result = uniqueIndex;
+			}
+		}
+
+		if (result == null) {
+			throw new IllegalArgumentException("No unique column named \"" + columnName + "\"");
+		}
+
+		return result;
+	}
+
+	private void indexAdd(T aValue) {
+		for (UniqueIndex uniqueIndex : uniqueIndexes) {
+			uniqueIndex.add(aValue);
+		}
+	}
+
+	private void indexRemove(T aValue) {
+		for (UniqueIndex uniqueIndex : uniqueIndexes) {
+			uniqueIndex.remove(aValue);
+		}
+	}
+
+	/**
+	 * Check new rows against each other and against the current rows, before
+	 * anything is changed.
+	 * 
+	 * @param values
+	 *            - New row objects
+	 * @param replacesAll
+	 *            - <tt>Current rows are being replaced</tt>
+	 * @param replaced
+	 *            - (optional) current row objects being replaced
+	 * @throws IllegalArgumentException
+	 *             A unique column value would be held twice
+	 */
+	private void requireUnique(Collection<? extends T> values, boolean replacesAll, Object replaced)
+			throws IllegalArgumentException {
+
+		Set<Object> seen = null;
+		Object key = null;
+		Object existing = null;
+
+		for (UniqueIndex uniqueIndex : uniqueIndexes) {
+
+			seen = new HashSet<>();
+
+			for (T value : values) {
+
+				key = uniqueIndex.getColumn().getValue(value);
+
+				if (key != null) {
+
+					if (!seen.add(key)) {
+						throw uniqueIndex.duplicate(key);
+					}
+
+					existing = replacesAll ? null : uniqueIndex.get(key);
+
+					if (existing != null && existing != replaced) {
+						throw uniqueIndex.duplicate(key);
+					}
+				}
+			}
+		}
+	}
+
+	private boolean matches(Object aValue, Object row) {
+		return rowIndexMode == RowIndexMode.IDENTITY ? aValue == row : aValue.equals(row);
+	}
+
+	private static final void requireNoNulls(Collection<?> values) {
+
+		if (values == null) {
+			throw new NullPointerException("No values supplied");
+		}
+
+		for (Object value : values) {
+			if (value == null) {
+				throw new NullPointerException("No value supplied");
+			}
+		}
+	}
+
+	/**
+	 * 
+	 * @param type
+	 *            - Any type
+	 * @return Wrapper type for primitives, otherwise the type itself
+	 */
+	private static final Class<?> wrap(Class<?> type) {
+
+		Class<?> result = type;
+
+		if (type.isPrimitive()) {
+			switch (type.getName()) {
+			case "boolean":
+				result = Boolean.class;
+				break;
+			case "byte":
+				result = Byte.class;
+				break;
+			case "short":
+				result = Short.class;
+				break;
+			case "char":
+				result = Character.class;
+				break;
+			case "int":
+				result = Integer.class;
+				break;
+			case "long":
+				result = Long.class;
+				break;
+			case "float":
+				result = Float.class;
+				break;
+			case "double":
+				result = Double.class;
+				break;
+			default:
+				result = Object.class;
+				break;
+			}
+		}
+
+		return result;
+	}
+}
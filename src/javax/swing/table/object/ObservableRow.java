@@ -0,0 +1,32 @@
+package javax.swing.table.object;
+
+import java.beans.PropertyChangeListener;
+
+/**
+ * <p>
+ * Row that tells listeners which of its properties changed, so a
+ * {@link RowObserver} can refresh exactly the affected cells.
+ * </p>
+ * <p>
+ * Property names are matched to the {@link Column} name, or to the field or
+ * getter the column was declared on (see
+ * {@link InvokableColumn#getPropertyName()}). A <tt>null</tt> property name
+ * refreshes the whole row. Events may be fired from any thread.
+ * </p>
+ * <p>
+ * Beans that already have public
+ * <tt>addPropertyChangeListener(PropertyChangeListener)</tt> and
+ * <tt>removePropertyChangeListener(PropertyChangeListener)</tt> methods, e.g.
+ * backed by {@link java.beans.PropertyChangeSupport}, are observed without
+ * implementing this interface.
+ * </p>
+ *
+ * @author Antony Hixson
+ *
+ */
+public interface ObservableRow {
+
+	void addPropertyChangeListener(PropertyChangeListener listener);
+
+	void removePropertyChangeListener(PropertyChangeListener listener);
+}
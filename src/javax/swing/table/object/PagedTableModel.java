@@ -0,0 +1,360 @@
+package javax.swing.table.object;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * <p>
+ * Read-only {@link ObjectTableModel} over a {@link RowSource}, for tables far
+ * larger than the heap.
+ * </p>
+ * <p>
+ * Rows are loaded in pages on a background thread and kept in a bounded LRU
+ * page cache. A row whose page is not loaded yet reads as <tt>null</tt> (the
+ * cells render a placeholder) and an update event is fired for the page once
+ * it arrives. The pages either side of the one being painted are prefetched.
+ * The latest page requested is loaded first, and requests older than the
+ * pages the cache holds are dropped, so pages scrolled past are not loaded
+ * ahead of the visible ones.
+ * </p>
+ * <p>
+ * Adding or removing rows, and looking rows up by object, are not supported;
+ * call {@link #refresh()} when the source changes.
+ * </p>
+ * 
+ * @author Antony Hixson
+ *
+ */
+public class PagedTableModel<T> extends ObjectTableModel<T> {
+
+	/**
+	 * 
+	 */
+	private static final long serialVersionUID = 1L;
+
+	public static final int DEFAULT_PAGE_SIZE = 256;
+	public static final int DEFAULT_MAX_PAGES = 64;
+
+	private final PagedRows<T> pagedRows;
+
+	/**
+	 * 
+	 * @param columns
+	 *            - Columns, in model order
+	 * @param source
+	 *            - Row source
+	 */
+	public PagedTableModel(List<InvokableColumn> columns, RowSource<T> source) {
+		this(columns, source, DEFAULT_PAGE_SIZE, DEFAULT_MAX_PAGES);
+	}
+
+	/**
+	 * 
+	 * @param columns
+	 *            - Columns, in model order
+	 * @param source
+	 *            - Row source
+	 * @param pageSize
+	 *            - Rows per page
+	 * @param maxPages
+	 *            - Pages kept in memory (should cover the viewport plus one
+	 *            page either side)
+	 */
+	public PagedTableModel(List<InvokableColumn> columns, RowSource<T> source, int pageSize, int maxPages) {
+		this(columns, new PagedRows<>(source, pageSize, maxPages));
+	}
+
+	private PagedTableModel(List<InvokableColumn> columns, PagedRows<T> pagedRows) {
+		super(columns, pagedRows, false);
+		this.pagedRows = pagedRows;
+		this.pagedRows.model = this;
+	}
+
+	/**
+	 * 
+	 * @param row
+	 *            - Row index (for model)
+	 * @return <tt>Row's page is in memory</tt>
+	 */
+	public boolean isRowLoaded(int row) {
+		return pagedRows.isLoaded(row);
+	}
+
+	/**
+	 * Request the pages covering a range of rows, e.g. the visible rows.
+	 * 
+	 * @param firstRow
+	 *            - First row (for model)
+	 * @param lastRow
+	 *            - Last row (for model)
+	 */
+	public void prefetch(int firstRow, int lastRow) {
+		pagedRows.prefetch(firstRow, lastRow);
+	}
+
+	/**
+	 * Re-read the row count and drop every cached page.
+	 */
+	public void refresh() {
+		pagedRows.refresh();
+		fireTableDataChanged();
+	}
+
+	/**
+	 * Stop the background loader. Pages that are in flight are discarded.
+	 */
+	public void dispose() {
+		pagedRows.loader.shutdownNow();
+	}
+
+	/**
+	 * Not supported, as it would load every page.
+	 * 
+	 * @throws UnsupportedOperationException
+	 *             Always
+	 */
+	@Override
+	public int indexOf(Object aValue) throws UnsupportedOperationException {
+		throw new UnsupportedOperationException("Rows of a paged model cannot be looked up by object");
+	}
+
+	/**
+	 * Not supported, as it would load every page.
+	 * 
+	 * @throws UnsupportedOperationException
+	 *             Always
+	 */
+	@Override
+	public int[] indicesOf(Object aValue) throws UnsupportedOperationException {
+		throw new UnsupportedOperationException("Rows of a paged model cannot be looked up by object");
+	}
+
+	/**
+	 * Not supported, as it would load every page.
+	 * 
+	 * @throws UnsupportedOperationException
+	 *             Always
+	 */
+	@Override
+	public int removeRows(Collection<?> values) throws UnsupportedOperationException {
+		throw new UnsupportedOperationException("Rows of a paged model cannot be removed");
+	}
+
+	/**
+	 * Row list backed by the page cache. Only used on the event dispatch
+	 * thread, apart from {@link RowSource#fetch(int, int)}.
+	 */
+	private static final class PagedRows<T> extends AbstractList<T> implements RandomAccess {
+
+		private final RowSource<T> source;
+		private final int pageSize;
+		private final int maxPages;
+		private final Map<Integer, List<T>> pages;
+		private final Set<Integer> pending;
+
+		/**
+		 * Pages waiting for the loader, latest last, guarded by itself
+		 */
+		private final Deque<PageRequest> queued;
+		private final ExecutorService loader;
+		private PagedTableModel<T> model;
+		private int rowCount;
+		private int lastPage;
+		private int generation;
+
+		private PagedRows(RowSource<T> source, int pageSize, int maxPages) {
+
+			if (source == null) {
+				throw new NullPointerException("Row source cannot be null");
+			} else if (pageSize < 1 || maxPages < 3) {
+				throw new IllegalArgumentException("Page size must be positive and at least 3 pages must be cached");
+			}
+
+			this.source = source;
+			this.pageSize = pageSize;
+			this.maxPages = maxPages;
+			this.pages = new LinkedHashMap<Integer, List<T>>(16, 0.75F, true) {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Integer, List<T>> eldest) {
+					return size() > maxPages;
+				}
+			};
+			this.pending = new HashSet<>();
+			this.queued = new ArrayDeque<>();
+			this.loader = Executors.newSingleThreadExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "PagedTableModel loader");
+				thread.setDaemon(true);
+				return thread;
+			});
+			this.rowCount = source.getRowCount();
+			this.lastPage = -1;
+			this.generation = 0;
+		}
+
+		@Override
+		public T get(int row) {
+
+			int page = row / pageSize;
+			List<T> data = null;
+			T result = null;
+
+			if (row < 0 || row >= rowCount) {
+				throw new IndexOutOfBoundsException("Row: " + row + ", Size: " + rowCount);
+			}
+
+			data = pages.get(page);
+
+			// Prefetch either side once the painted page changes, before the
+			// page itself so it is loaded first
+			if (page != lastPage) {
+				lastPage = page;
+				request(page - 1);
+				request(page + 1);
+			}
+
+			if (data == null) {
+				request(page);
+			} else if (row % pageSize < data.size()) {
+				result = data.get(row % pageSize);
+			}
+
+			return result;
+		}
+
+		@Override
+		public int size() {
+			return rowCount;
+		}
+
+		private boolean isLoaded(int row) {
+			return pages.containsKey(row / pageSize);
+		}
+
+		private void prefetch(int firstRow, int lastRow) {
+			// Latest loaded first
+			for (int page = lastRow / pageSize; page >= Math.max(0, firstRow) / pageSize; page--) {
+				request(page);
+			}
+		}
+
+		private void refresh() {
+			generation++;
+			pages.clear();
+			pending.clear();
+
+			synchronized (queued) {
+				queued.clear();
+			}
+
+			rowCount = source.getRowCount();
+			lastPage = -1;
+		}
+
+		/**
+		 * Queue the page as the latest request, or move it there when it is
+		 * already queued.
+		 */
+		private void request(int page) {
+
+			int firstRow = page * pageSize;
+			int count = Math.min(pageSize, rowCount - firstRow);
+			boolean isQueued = false;
+			boolean isAdded = false;
+
+			if (page >= 0 && count > 0 && !pages.containsKey(page)) {
+
+				synchronized (queued) {
+
+					// Not requested again while being loaded
+					isQueued = queued.removeIf(request -> request.page == page);
+					isAdded = !isQueued && pending.add(page);
+
+					if (isQueued || isAdded) {
+
+						queued.addLast(new PageRequest(page, firstRow, count, generation));
+
+						// Evicted from the cache before being painted
+						if (queued.size() > maxPages) {
+							pending.remove(queued.removeFirst().page);
+						}
+					}
+				}
+
+				if (isAdded) {
+					loader.execute(this::loadLatest);
+				}
+			}
+		}
+
+		/**
+		 * Called on the loader thread, once per page queued.
+		 */
+		private void loadLatest() {
+
+			PageRequest request = null;
+			List<T> data = null;
+
+			synchronized (queued) {
+				request = queued.pollLast();
+			}
+
+			// Nothing left when requests were dropped
+			if (request != null) {
+
+				try {
+					data = source.fetch(request.firstRow, request.count);
+				} catch (Exception e) {
+					e.printStackTrace();
+				}
+
+				deliver(request.generation, request.page, request.firstRow, data);
+			}
+		}
+
+		private void deliver(int requestGeneration, int page, int firstRow, List<T> data) {
+
+			SwingUtilities.invokeLater(() -> {
+
+				if (requestGeneration == generation) {
+
+					pending.remove(page);
+
+					if (data != null) {
+						pages.put(page, data);
+						model.fireTableRowsUpdated(firstRow, Math.min(firstRow + pageSize, rowCount) - 1);
+					}
+				}
+			});
+		}
+	}
+
+	private static final class PageRequest {
+
+		private final int page;
+		private final int firstRow;
+		private final int count;
+		private final int generation;
+
+		private PageRequest(int page, int firstRow, int count, int generation) {
+			this.page = page;
+			this.firstRow = firstRow;
+			this.count = count;
+			this.generation = generation;
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package javax.swing.table.object;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * <p>
+ * Fallback {@link ColumnAccessor} that uses {@link Method#invoke} and
+ * {@link Field#get}/{@link Field#set}, for members that cannot be turned into
+ * method handles.
+ * </p>
+ * 
+ * @author Antony Hixson
+ *
+ */
+final class ReflectiveColumnAccessor implements ColumnAccessor {
+
+	private final Field field;
+	private final Method getterMethod;
+	private final Method setterMethod;
+
+	ReflectiveColumnAccessor(Field field, Method getterMethod, Method setterMethod) {
+		this.field = field;
+		this.getterMethod = getterMethod;
+		this.setterMethod = setterMethod;
+	}
+
+	@Override
+	public Object get(Object instance) throws ReflectiveOperationException {
+
+		Object value = null;
+
+		if (getterMethod != null) {
+			value = getterMethod.invoke(instance);
+		} else if (field != null) {
+			value = field.get(instance);
+		} else {
+			throw new IllegalAccessException("Column has no getter or field");
+		}
+
+		return value;
+	}
+
+	@Override
+	public void set(Object instance, Object value) throws ReflectiveOperationException {
+
+		if (setterMethod != null) {
+			setterMethod.invoke(instance, value);
+		} else if (field != null) {
+			field.set(instance, value);
+		} else {
+			throw new IllegalAccessException("Column has no setter or field");
+		}
+	}
+
+	@Override
+	public boolean isGettable() {
+		return getterMethod != null || field != null;
+	}
+
+	@Override
+	public boolean isSettable() {
+		return setterMethod != null || field != null;
+	}
+}
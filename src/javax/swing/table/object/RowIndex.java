@@ -0,0 +1,275 @@
+package javax.swing.table.object;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * Maps row objects to their (model) row positions for
+ * {@link ObjectTableModel}.
+ * </p>
+ * <p>
+ * Every change keeps the objects indexed up to date, so membership is always
+ * answered from the index. Inserts and removals in the middle shift the rows
+ * after them: their positions are only marked stale from the first row
+ * shifted, and recomputed from there on the next lookup that needs one, so a
+ * batch of changes costs a single pass over the rows after it.
+ * </p>
+ * 
+ * @author Antony Hixson
+ *
+ */
+final class RowIndex {
+
+	private static final int[] NO_ROWS = new int[0];
+
+	private final Map<Object, int[]> positions;
+	private boolean valid;
+
+	/**
+	 * Positions at or after this row may be wrong, but each object still has
+	 * as many of them as it has rows there
+	 */
+	private int staleFrom;
+
+	/**
+	 * 
+	 * @param mode
+	 *            - {@link RowIndexMode#IDENTITY} or
+	 *            {@link RowIndexMode#EQUALITY}
+	 */
+	RowIndex(RowIndexMode mode) {
+
+		if (mode == RowIndexMode.IDENTITY) {
+			positions = new IdentityHashMap<>();
+		} else if (mode == RowIndexMode.EQUALITY) {
+			positions = new HashMap<>();
+		} else {
+			throw new IllegalArgumentException("No index for mode " + mode);
+		}
+
+		valid = false;
+		staleFrom = Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Mark the index stale, it will be rebuilt on the next lookup.
+	 */
+	void invalidate() {
+		if (valid) {
+			positions.clear();
+			valid = false;
+			staleFrom = Integer.MAX_VALUE;
+		}
+	}
+
+	/**
+	 * A row was added to the end of the rows.
+	 */
+	void appended(Object value, int row) {
+		if (valid) {
+			add(value, row);
+		}
+	}
+
+	/**
+	 * A row was inserted, shifting the rows after it.
+	 */
+	void inserted(Object value, int row) {
+		if (valid) {
+			staleFrom = Math.min(staleFrom, row);
+			add(value, row);
+		}
+	}
+
+	/**
+	 * A row was removed, shifting the rows after it.
+	 */
+	void removed(Object value, int row) {
+		if (valid) {
+			remove(value, row);
+			staleFrom = Math.min(staleFrom, row);
+		}
+	}
+
+	/**
+	 * The object at a row was replaced.
+	 */
+	void replaced(Object oldValue, Object newValue, int row) {
+		if (valid) {
+			remove(oldValue, row);
+			add(newValue, row);
+		}
+	}
+
+	/**
+	 * 
+	 * @param value
+	 *            - Object to find
+	 * @param rows
+	 *            - Current rows, used to rebuild a stale index
+	 * @return <tt>Object is in the rows</tt>, without recomputing positions
+	 */
+	boolean contains(Object value, List<?> rows) {
+
+		if (!valid) {
+			rebuild(rows);
+		}
+
+		return positions.containsKey(value);
+	}
+
+	/**
+	 * 
+	 * @param value
+	 *            - Object to find
+	 * @param rows
+	 *            - Current rows, used to rebuild a stale index
+	 * @return Ascending row positions holding the object (do not modify)
+	 */
+	int[] rowsOf(Object value, List<?> rows) {
+
+		int[] entry = null;
+
+		if (!valid) {
+			rebuild(rows);
+		}
+
+		entry = positions.get(value);
+
+		if (entry != null && entry[entry[0]] >= staleFrom) {
+			repair(rows);
+			entry = positions.get(value);
+		}
+
+		return entry == null ? NO_ROWS : Arrays.copyOfRange(entry, 1, entry[0] + 1);
+	}
+
+	/**
+	 * 
+	 * @return First row position holding the object, or -1
+	 */
+	int firstRowOf(Object value, List<?> rows) {
+
+		int[] entry = null;
+
+		if (!valid) {
+			rebuild(rows);
+		}
+
+		entry = positions.get(value);
+
+		if (entry != null && entry[1] >= staleFrom) {
+			repair(rows);
+			entry = positions.get(value);
+		}
+
+		return entry == null ? -1 : entry[1];
+	}
+
+	private void rebuild(List<?> rows) {
+
+		positions.clear();
+
+		for (int i = 0; i < rows.size(); i++) {
+			add(rows.get(i), i);
+		}
+
+		valid = true;
+		staleFrom = Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Recompute the positions from the first stale row: the stale positions
+	 * of the objects there are dropped, then added back in row order.
+	 */
+	private void repair(List<?> rows) {
+
+		int[] entry = null;
+
+		for (int i = staleFrom; i < rows.size(); i++) {
+
+			entry = positions.get(rows.get(i));
+
+			while (entry[0] > 0 && entry[entry[0]] >= staleFrom) {
+				entry[0]--;
+			}
+		}
+
+		for (int i = staleFrom; i < rows.size(); i++) {
+			add(rows.get(i), i);
+		}
+
+		staleFrom = Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Entries are stored as <tt>[count, row0, row1, ...]</tt>, with rows in
+	 * ascending order.
+	 */
+	private void add(Object value, int row) {
+
+		int[] entry = positions.get(value);
+		int count = 0;
+		int insertAt = 0;
+
+		if (entry == null) {
+
+			positions.put(value, new int[] { 1, row });
+
+		} else {
+
+			count = entry[0];
+
+			if (count + 1 >= entry.length) {
+				entry = Arrays.copyOf(entry, entry.length * 2);
+				positions.put(value, entry);
+			}
+
+			insertAt = count + 1;
+
+			while (insertAt > 1 && entry[insertAt - 1] > row) {
+				entry[insertAt] = entry[insertAt - 1];
+				insertAt--;
+			}
+
+			entry[insertAt] = row;
+			entry[0] = count + 1;
+		}
+	}
+
+	private void remove(Object value, int row) {
+
+		int[] entry = positions.get(value);
+		int count = 0;
+		int i = 0;
+
+		if (entry != null) {
+
+			count = entry[0];
+
+			// A stale row is dropped from the stale positions, any of which
+			// will be recomputed
+			if (row >= staleFrom) {
+				row = entry[count];
+			}
+
+			for (i = 1; i <= count && entry[i] != row; i++) {
+				// find row
+			}
+
+			if (i <= count) {
+
+				System.arraycopy(entry, i + 1, entry, i, count - i);
+				entry[0] = count - 1;
+
+				if (entry[0] == 0) {
+					positions.remove(value);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,28 @@
+package javax.swing.table.object;
+
+/**
+ * <p>
+ * How an {@link ObjectTableModel} finds the rows holding an object.
+ * </p>
+ * 
+ * @author Antony Hixson
+ *
+ */
+public enum RowIndexMode {
+
+	/**
+	 * No index, lookups scan the rows using <tt>equals</tt>.
+	 */
+	NONE,
+
+	/**
+	 * Index keyed by object identity (<tt>==</tt>).
+	 */
+	IDENTITY,
+
+	/**
+	 * Index keyed by <tt>equals</tt>/<tt>hashCode</tt>. Rebuilt after any
+	 * cell edit, as an edit can change the object's hash code.
+	 */
+	EQUALITY
+}
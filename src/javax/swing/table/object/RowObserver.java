@@ -0,0 +1,385 @@
+package javax.swing.table.object;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import javax.swing.SwingUtilities;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+
+/**
+ * <p>
+ * Subscribes to the property change events of the rows of an
+ * {@link ObjectTableModel}, so rows mutated outside the table refresh exactly
+ * the cells that changed instead of the whole table.
+ * </p>
+ * <p>
+ * Rows are observed when they implement {@link ObservableRow} or have public
+ * <tt>addPropertyChangeListener(PropertyChangeListener)</tt> and
+ * <tt>removePropertyChangeListener(PropertyChangeListener)</tt> methods. Rows
+ * are subscribed as they are inserted and unsubscribed as they are removed or
+ * replaced by another object. A
+ * property is matched to the column of the same name, or whose field or getter
+ * it is (see {@link InvokableColumn#getPropertyName()}); other properties are
+ * ignored.
+ * </p>
+ * <p>
+ * Events fired on the event dispatch thread fire a cell updated event right
+ * away, events fired on other threads are batched through a
+ * {@link RowUpdateQueue}.
+ * </p>
+ *
+ * @author Antony Hixson
+ *
+ */
+public final class RowObserver<T> implements TableModelListener, PropertyChangeListener {
+
+	/**
+	 * Public add and remove listener methods of each row class, or an empty
+	 * array. Stored against the class, so plugin classes can still be
+	 * unloaded.
+	 */
+	private static final ClassValue<Method[]> LISTENER_METHODS = new ClassValue<Method[]>() {
+
+		@Override
+		protected Method[] computeValue(Class<?> type) {
+
+			Method[] result = null;
+
+			try {
+
+				result = new Method[] { type.getMethod("addPropertyChangeListener", PropertyChangeListener.class),
+						type.getMethod("removePropertyChangeListener", PropertyChangeListener.class) };
+
+				// Public methods of classes that are not public
+				for (Method method : result) {
+					method.setAccessible(true);
+				}
+
+			} catch (NoSuchMethodException | SecurityException e) {
+
+				result = new Method[0];
+			}
+
+			return result;
+		}
+	};
+
+	private final ObjectTableModel<T> model;
+	private final RowUpdateQueue<T> updateQueue;
+	private final Map<String, Integer> columnsByProperty;
+
+	/**
+	 * Only accessed on the event dispatch thread: rows holding each object
+	 * subscribed to, and the row objects as of the last event, so the ones
+	 * replaced are unsubscribed
+	 */
+	private final Map<Object, Integer> observed;
+	private final List<Object> rows;
+	private Map<Object, Integer> modelRows;
+
+	/**
+	 *
+	 * @param model
+	 *            - Model whose rows are observed, paged models are not
+	 *            supported
+	 * @param updateQueue
+	 *            - Batches the events fired on other threads
+	 */
+	public RowObserver(ObjectTableModel<T> model, RowUpdateQueue<T> updateQueue) {
+
+		InvokableColumn invokableColumn = null;
+
+		if (model == null) {
+			throw new NullPointerException("Model cannot be null");
+		} else if (updateQueue == null) {
+			throw new NullPointerException("Update queue cannot be null");
+		} else if (model instanceof PagedTableModel) {
+			throw new IllegalArgumentException("Paged models cannot be observed");
+		}
+
+		this.model = model;
+		this.updateQueue = updateQueue;
+		this.columnsByProperty = new HashMap<>();
+		this.observed = new IdentityHashMap<>();
+		this.rows = new ArrayList<>();
+
+		for (int i = model.getColumnCount() - 1; i >= 0; i--) {
+
+			invokableColumn = model.getInvokableColumn(i);
+
+			if (invokableColumn.getPropertyName() != null) {
+				columnsByProperty.put(invokableColumn.getPropertyName(), i);
+			}
+		}
+
+		// Column names take precedence over property names
+		for (int i = model.getColumnCount() - 1; i >= 0; i--) {
+			columnsByProperty.put(model.getColumnName(i), i);
+		}
+	}
+
+	/**
+	 *
+	 * @param rowObjInstance
+	 *            - Row
+	 * @return <tt>Row fires property change events</tt>
+	 */
+	public static boolean isObservable(Object rowObjInstance) {
+		return rowObjInstance instanceof ObservableRow
+				|| (rowObjInstance != null && getListenerMethods(rowObjInstance.getClass()).length > 0);
+	}
+
+	/**
+	 * Subscribe to every row and to the rows inserted from now on.
+	 */
+	public void install() {
+
+		model.addTableModelListener(this);
+
+		resync();
+	}
+
+	/**
+	 * Unsubscribe from every row.
+	 */
+	public void uninstall() {
+
+		model.removeTableModelListener(this);
+
+		observed.keySet().forEach(this::unsubscribe);
+		observed.clear();
+		rows.clear();
+		modelRows = null;
+	}
+
+	/**
+	 *
+	 * @return Number of rows subscribed to
+	 */
+	public int getObservedCount() {
+		return observed.size();
+	}
+
+	@Override
+	public void tableChanged(TableModelEvent e) {
+
+		int lastRow = Math.min(e.getLastRow(), model.getRowCount() - 1);
+		Object previous = null;
+		Object current = null;
+
+		if (e.getType() == TableModelEvent.INSERT && e.getFirstRow() >= 0
+				&& rows.size() + lastRow - e.getFirstRow() + 1 == model.getRowCount()) {
+
+			rows.addAll(e.getFirstRow(), model.getRows().subList(e.getFirstRow(), lastRow + 1));
+
+			for (int i = e.getFirstRow(); i <= lastRow; i++) {
+				subscribe(rows.get(i));
+			}
+
+			modelRows = null;
+
+		} else if (e.getType() == TableModelEvent.UPDATE && e.getFirstRow() >= 0
+				&& e.getLastRow() != Integer.MAX_VALUE && rows.size() == model.getRowCount()) {
+
+			for (int i = e.getFirstRow(); i <= lastRow; i++) {
+
+				previous = rows.get(i);
+				current = model.getRow(i);
+
+				// Replaced by another object
+				if (current != previous) {
+					rows.set(i, current);
+					subscribe(current);
+					release(previous);
+				}
+			}
+
+		} else {
+
+			resync();
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void propertyChange(PropertyChangeEvent evt) {
+
+		T rowObjInstance = (T) evt.getSource();
+		String propertyName = evt.getPropertyName();
+		Integer column = (propertyName == null ? null : columnsByProperty.get(propertyName));
+		int row = -1;
+
+		if (propertyName != null && column == null) {
+
+			// Not shown by the table
+
+		} else if (!SwingUtilities.isEventDispatchThread()) {
+
+			if (column != null) {
+				updateQueue.update(rowObjInstance, model.getColumnName(column));
+			} else {
+				updateQueue.update(rowObjInstance);
+			}
+
+		} else if ((row = findRow(rowObjInstance)) >= 0) {
+
+			if (column != null) {
+				model.fireTableCellUpdated(row, column);
+			} else {
+				model.fireTableRowsUpdated(row, row);
+			}
+		}
+	}
+
+	/**
+	 * Subscribe to the rows of the model and unsubscribe from the rows that
+	 * left it.
+	 */
+	private void resync() {
+
+		Map<Object, Integer> current = new IdentityHashMap<>();
+		Iterator<Object> iterator = null;
+		Object rowObjInstance = null;
+
+		modelRows = null;
+		rows.clear();
+		rows.addAll(model.getRows());
+
+		for (Object row : rows) {
+			if (row != null) {
+				current.merge(row, 1, Integer::sum);
+			}
+		}
+
+		iterator = observed.keySet().iterator();
+
+		while (iterator.hasNext()) {
+
+			rowObjInstance = iterator.next();
+
+			if (!current.containsKey(rowObjInstance)) {
+				unsubscribe(rowObjInstance);
+				iterator.remove();
+			}
+		}
+
+		current.forEach((row, count) -> {
+
+			if (!observed.containsKey(row)) {
+				subscribe(row);
+			}
+
+			if (observed.containsKey(row)) {
+				observed.put(row, count);
+			}
+		});
+	}
+
+	/**
+	 *
+	 * @return Row (for model) of the row, or -1
+	 */
+	private int findRow(Object rowObjInstance) {
+
+		Integer result = (modelRows == null ? null : modelRows.get(rowObjInstance));
+
+		if (result == null || result >= model.getRowCount() || model.getRow(result) != rowObjInstance) {
+
+			modelRows = new IdentityHashMap<>(model.getRowCount() * 2);
+
+			for (int i = model.getRowCount() - 1; i >= 0; i--) {
+				modelRows.put(model.getRow(i), i);
+			}
+
+			result = modelRows.get(rowObjInstance);
+		}
+
+		return (result == null ? -1 : result);
+	}
+
+	/**
+	 * Subscribe to a row object, or count one more row holding it.
+	 */
+	private void subscribe(Object rowObjInstance) {
+
+		Integer count = (rowObjInstance == null ? null : observed.get(rowObjInstance));
+		Method[] methods = null;
+
+		if (count != null) {
+
+			observed.put(rowObjInstance, count + 1);
+
+		} else if (rowObjInstance instanceof ObservableRow) {
+
+			((ObservableRow) rowObjInstance).addPropertyChangeListener(this);
+			observed.put(rowObjInstance, 1);
+
+		} else if (rowObjInstance != null
+				&& (methods = getListenerMethods(rowObjInstance.getClass())).length > 0) {
+
+			try {
+
+				methods[0].invoke(rowObjInstance, this);
+				observed.put(rowObjInstance, 1);
+
+			} catch (ReflectiveOperationException e) {
+
+				e.printStackTrace();
+			}
+		}
+	}
+
+	/**
+	 * Count one row less holding a row object, unsubscribing from it when no
+	 * row holds it any more.
+	 */
+	private void release(Object rowObjInstance) {
+
+		Integer count = (rowObjInstance == null ? null : observed.get(rowObjInstance));
+
+		if (count != null && count > 1) {
+
+			observed.put(rowObjInstance, count - 1);
+
+		} else if (count != null) {
+
+			observed.remove(rowObjInstance);
+			unsubscribe(rowObjInstance);
+		}
+	}
+
+	private void unsubscribe(Object rowObjInstance) {
+
+		if (rowObjInstance instanceof ObservableRow) {
+
+			((ObservableRow) rowObjInstance).removePropertyChangeListener(this);
+
+		} else {
+
+			try {
+
+				getListenerMethods(rowObjInstance.getClass())[1].invoke(rowObjInstance, this);
+
+			} catch (ReflectiveOperationException e) {
+
+				e.printStackTrace();
+			}
+		}
+	}
+
+	/**
+	 *
+	 * @return Public add and remove listener methods, or an empty array
+	 */
+	private static Method[] getListenerMethods(Class<?> type) {
+		return LISTENER_METHODS.get(type);
+	}
+}
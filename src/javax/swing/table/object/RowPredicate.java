@@ -0,0 +1,1056 @@
+package javax.swing.table.object;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ * Typed predicate over the columns of an {@link ObjectTableModel}, for
+ * filtering rows without a {@link javax.swing.RowFilter} reading every cell
+ * through <tt>getValueAt</tt>. Columns are named as in the model; predicates
+ * are comparisons, ranges, set membership, string contains and regular
+ * expressions, combined with {@link #allOf(RowPredicate...)},
+ * {@link #anyOf(RowPredicate...)} and {@link #not(RowPredicate)}.
+ * </p>
+ * <p>
+ * A predicate is compiled against a model into an evaluator specialised for
+ * the type of each column: primitive columns are read through the primitive
+ * accessors and compared as <tt>long</tt> keys (doubles in an order
+ * preserving bit form), so no value is boxed, and sets of primitive values
+ * become sorted key arrays. {@link #filter(ObjectTableModel)} evaluates the
+ * rows in parallel chunks into a bitset of the matching rows.
+ * </p>
+ * <p>
+ * {@link #implies(RowPredicate)} tells from the structure of two predicates
+ * whether one is narrower than the other (a longer text contained, a tighter
+ * range, an extra term of {@link #allOf(RowPredicate...)}), so a filter being
+ * refined only evaluates the rows it can change (see
+ * {@link #filter(ObjectTableModel, BitSet)}).
+ * </p>
+ * <p>
+ * Comparisons follow the order of {@link InvokableColumn#getRowComparator()}.
+ * Equality and set membership of values that are not primitive use
+ * {@link Object#equals(Object)}. A <tt>null</tt> value only matches
+ * {@link #equal(String, Object)} and {@link #in(String, Collection)} of
+ * <tt>null</tt>. Contains and regular expressions match the string form of
+ * the value, a regular expression anywhere in it.
+ * </p>
+ *
+ * @author Antony Hixson
+ *
+ */
+public abstract class RowPredicate {
+
+	/**
+	 * Rows evaluated by one parallel task, a multiple of 64 so tasks set bits
+	 * of separate words
+	 */
+	private static final int CHUNK_ROWS = 4096;
+
+	RowPredicate() {
+	}
+
+	/**
+	 *
+	 * @param columnName
+	 *            - Name of a column
+	 * @param value
+	 *            - Value, may be <tt>null</tt>
+	 * @return Value of the column equals the value
+	 */
+	public static RowPredicate equal(String columnName, Object value) {
+		return (value == null ? new In(columnName, Collections.singleton(null))
+				: new Range(columnName, value, true, value, true));
+	}
+
+	public static RowPredicate notEqual(String columnName, Object value) {
+		return not(equal(columnName, value));
+	}
+
+	public static RowPredicate less(String columnName, Object bound) {
+		return new Range(columnName, null, false, requireBound(bound), false);
+	}
+
+	public static RowPredicate lessOrEqual(String columnName, Object bound) {
+		return new Range(columnName, null, false, requireBound(bound), true);
+	}
+
+	public static RowPredicate greater(String columnName, Object bound) {
+		return new Range(columnName, requireBound(bound), false, null, false);
+	}
+
+	public static RowPredicate greaterOrEqual(String columnName, Object bound) {
+		return new Range(columnName, requireBound(bound), true, null, false);
+	}
+
+	/**
+	 *
+	 * @param columnName
+	 *            - Name of a column
+	 * @param low
+	 *            - Lowest value, inclusive
+	 * @param high
+	 *            - Highest value, inclusive
+	 * @return Value of the column is between the bounds
+	 */
+	public static RowPredicate between(String columnName, Object low, Object high) {
+		return new Range(columnName, requireBound(low), true, requireBound(high), true);
+	}
+
+	/**
+	 *
+	 * @param columnName
+	 *            - Name of a column
+	 * @param values
+	 *            - Values, may contain <tt>null</tt>
+	 * @return Value of the column is one of the values
+	 */
+	public static RowPredicate in(String columnName, Collection<?> values) {
+
+		if (values == null) {
+			throw new NullPointerException("Values cannot be null");
+		}
+
+		return new In(columnName, new HashSet<>(values));
+	}
+
+	/**
+	 *
+	 * @param columnName
+	 *            - Name of a column
+	 * @param text
+	 *            - Text
+	 * @param isIgnoringCase
+	 *            - <tt>Ignore case</tt>
+	 * @return String form of the value of the column contains the text
+	 */
+	public static RowPredicate contains(String columnName, String text, boolean isIgnoringCase) {
+
+		if (text == null) {
+			throw new NullPointerException("Text cannot be null");
+		}
+
+		return new Contains(columnName, text, isIgnoringCase);
+	}
+
+	/**
+	 *
+	 * @param columnName
+	 *            - Name of a column
+	 * @param regex
+	 *            - Regular expression
+	 * @return String form of the value of the column contains a match of the
+	 *         regular expression
+	 */
+	public static RowPredicate matches(String columnName, String regex) {
+
+		if (regex == null) {
+			throw new NullPointerException("Regular expression cannot be null");
+		}
+
+		return matches(columnName, Pattern.compile(regex));
+	}
+
+	public static RowPredicate matches(String columnName, Pattern pattern) {
+
+		if (pattern == null) {
+			throw new NullPointerException("Pattern cannot be null");
+		}
+
+		return new Matches(columnName, pattern);
+	}
+
+	/**
+	 *
+	 * @return All of the predicates match, true when there are none
+	 */
+	public static RowPredicate allOf(RowPredicate... predicates) {
+		return new Junction(true, requirePredicates(predicates));
+	}
+
+	/**
+	 *
+	 * @return Any of the predicates matches, false when there are none
+	 */
+	public static RowPredicate anyOf(RowPredicate... predicates) {
+		return new Junction(false, requirePredicates(predicates));
+	}
+
+	public static RowPredicate not(RowPredicate predicate) {
+
+		if (predicate == null) {
+			throw new NullPointerException("Predicate cannot be null");
+		}
+
+		return new Not(predicate);
+	}
+
+	public final RowPredicate and(RowPredicate other) {
+		return allOf(this, other);
+	}
+
+	public final RowPredicate or(RowPredicate other) {
+		return anyOf(this, other);
+	}
+
+	public final RowPredicate negate() {
+		return not(this);
+	}
+
+	/**
+	 *
+	 * @param model
+	 *            - Model whose columns are named
+	 * @return Evaluator of a row of the model
+	 * @throws IllegalArgumentException
+	 *             No column has a name used, or a bound does not fit the type
+	 *             of its column
+	 */
+	public final Predicate<Object> compile(ObjectTableModel<?> model) throws IllegalArgumentException {
+
+		if (model == null) {
+			throw new NullPointerException("Model cannot be null");
+		}
+
+		return compileFor(model);
+	}
+
+	/**
+	 * Evaluate the rows of the model, on the event dispatch thread.
+	 *
+	 * @param model
+	 *            - Model
+	 * @return Rows (for model) matching
+	 * @throws IllegalArgumentException
+	 *             See {@link #compile(ObjectTableModel)}
+	 */
+	public final BitSet filter(ObjectTableModel<?> model) throws IllegalArgumentException {
+		return filter(compile(model), model.getRows().toArray(), null, () -> false);
+	}
+
+	/**
+	 * Evaluate the candidate rows of the model, on the event dispatch thread.
+	 * The rows matching a predicate this one implies are the only candidates
+	 * for it, the rows not matching a predicate implying this one the only
+	 * ones left to evaluate.
+	 *
+	 * @param model
+	 *            - Model
+	 * @param candidates
+	 *            - Rows (for model) to evaluate
+	 * @return Candidate rows (for model) matching
+	 * @throws IllegalArgumentException
+	 *             See {@link #compile(ObjectTableModel)}
+	 */
+	public final BitSet filter(ObjectTableModel<?> model, BitSet candidates) throws IllegalArgumentException {
+
+		if (candidates == null) {
+			throw new NullPointerException("Candidates cannot be null");
+		}
+
+		return filter(compile(model), model.getRows().toArray(), candidates, () -> false);
+	}
+
+	/**
+	 * Tell from the structure of the predicates, without evaluating any row,
+	 * whether this predicate is at least as narrow as the other.
+	 *
+	 * @param other
+	 *            - Predicate
+	 * @return <tt>Every row matching this predicate matches the other</tt>,
+	 *         false when it cannot be told
+	 */
+	public final boolean implies(RowPredicate other) {
+
+		boolean result = false;
+
+		if (other == null) {
+			throw new NullPointerException("Predicate cannot be null");
+		}
+
+		if (equals(other)) {
+
+			result = true;
+
+		} else if (other instanceof Junction && ((Junction) other).isAll) {
+
+			result = ((Junction) other).predicates.stream().allMatch(this::implies);
+
+		} else {
+
+			if (other instanceof Junction) {
+				result = ((Junction) other).predicates.stream().anyMatch(this::implies);
+			}
+
+			if (!result && this instanceof Junction) {
+				result = (((Junction) this).isAll
+						? ((Junction) this).predicates.stream().anyMatch(predicate -> predicate.implies(other))
+						: ((Junction) this).predicates.stream().allMatch(predicate -> predicate.implies(other)));
+			}
+
+			if (!result) {
+				result = impliesLeaf(other);
+			}
+		}
+
+		return result;
+	}
+
+	abstract Predicate<Object> compileFor(ObjectTableModel<?> model);
+
+	/**
+	 *
+	 * @return <tt>Every row matching this predicate matches the other</tt>,
+	 *         for predicates that are not junctions
+	 */
+	boolean impliesLeaf(RowPredicate other) {
+		return false;
+	}
+
+	/**
+	 *
+	 * @param matcher
+	 *            - Compiled predicate
+	 * @param rows
+	 *            - Rows
+	 * @param candidates
+	 *            - Rows to evaluate, or <tt>null</tt> for every row
+	 * @param isCancelled
+	 *            - Checked between chunks
+	 * @return Rows matching, or <tt>null</tt> when cancelled
+	 */
+	static BitSet filter(Predicate<Object> matcher, Object[] rows, BitSet candidates, BooleanSupplier isCancelled) {
+
+		long[] words = new long[(rows.length + 63) >>> 6];
+		int chunks = (rows.length + CHUNK_ROWS - 1) / CHUNK_ROWS;
+
+		IntStream.range(0, chunks).parallel().forEach(chunk -> {
+
+			int end = Math.min(rows.length, (chunk + 1) * CHUNK_ROWS);
+
+			if (!isCancelled.getAsBoolean()) {
+				for (int i = first(candidates, chunk * CHUNK_ROWS); i >= 0 && i < end; i = first(candidates, i + 1)) {
+					if (matcher.test(rows[i])) {
+						words[i >>> 6] |= 1L << i;
+					}
+				}
+			}
+		});
+
+		return (isCancelled.getAsBoolean() ? null : BitSet.valueOf(words));
+	}
+
+	/**
+	 *
+	 * @return First candidate row from the row on
+	 */
+	private static int first(BitSet candidates, int row) {
+		return (candidates == null ? row : candidates.nextSetBit(row));
+	}
+
+	/**
+	 * Order of bounds of the same class, as compared by the columns, for
+	 * {@link #implies(RowPredicate)}
+	 *
+	 * @return Order of the bounds, or <tt>null</tt> when it cannot be told
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Integer compareBounds(Object a, Object b) {
+
+		Integer result = null;
+
+		// NaN matches nothing on a column that is not a double column
+		if (a.getClass() == b.getClass() && a instanceof Comparable && !isNaN(a) && !isNaN(b)) {
+			result = ((Comparable) a).compareTo(b);
+		}
+
+		return result;
+	}
+
+	private static boolean isNaN(Object bound) {
+		return (bound instanceof Double && ((Double) bound).isNaN())
+				|| (bound instanceof Float && ((Float) bound).isNaN());
+	}
+
+	private static InvokableColumn findColumn(ObjectTableModel<?> model, String columnName)
+			throws IllegalArgumentException {
+
+		int column = model.findColumn(columnName);
+
+		if (column < 0) {
+			throw new IllegalArgumentException("No column named " + columnName);
+		}
+
+		return model.getInvokableColumn(column);
+	}
+
+	/**
+	 *
+	 * @param type
+	 *            - Primitive column type
+	 * @param bound
+	 *            - Bound
+	 * @param isLow
+	 *            - <tt>Lowest value matching</tt>, else highest
+	 * @param isInclusive
+	 *            - <tt>Bound matches</tt>
+	 * @return Key of the lowest or highest value matching, as by
+	 *         {@link ColumnKeys#key(InvokableColumn, Object)}, or
+	 *         <tt>null</tt> when no value of the type can match
+	 * @throws IllegalArgumentException
+	 *             Bound does not fit the type
+	 */
+	private static Long toKey(Class<?> type, Object bound, boolean isLow, boolean isInclusive)
+			throws IllegalArgumentException {
+
+		Long result = null;
+		long key = 0L;
+		double value = 0.0;
+
+		if (type == boolean.class) {
+
+			if (!(bound instanceof Boolean)) {
+				throw new IllegalArgumentException("Bound of a boolean column must be a Boolean: " + bound);
+			}
+
+			key = ((Boolean) bound) ? 1L : 0L;
+			result = (isInclusive ? key : isLow ? key + 1L : key - 1L);
+
+		} else if (!(bound instanceof Number || bound instanceof Character)) {
+
+			throw new IllegalArgumentException("Bound of a " + type + " column must be a number: " + bound);
+
+		} else if (type == double.class || type == float.class) {
+
+			value = (bound instanceof Character ? (Character) bound : ((Number) bound).doubleValue());
+			key = ColumnKeys.doubleKey(value);
+
+			if (isInclusive) {
+				result = key;
+			} else if (isLow ? key != Long.MAX_VALUE : key != Long.MIN_VALUE) {
+				result = (isLow ? key + 1L : key - 1L);
+			}
+
+		} else if (bound instanceof Character || bound instanceof Long || bound instanceof Integer
+				|| bound instanceof Short || bound instanceof Byte) {
+
+			key = (bound instanceof Character ? (Character) bound : ((Number) bound).longValue());
+
+			if (isInclusive) {
+				result = key;
+			} else if (isLow ? key != Long.MAX_VALUE : key != Long.MIN_VALUE) {
+				result = (isLow ? key + 1L : key - 1L);
+			}
+
+		} else {
+
+			value = ((Number) bound).doubleValue();
+
+			// Whole values on the matching side of a fractional bound
+			if (Double.isNaN(value)) {
+				result = null;
+			} else if (isLow) {
+				result = (isInclusive ? (long) Math.ceil(value) : (long) Math.floor(value) + 1L);
+			} else {
+				result = (isInclusive ? (long) Math.floor(value) : (long) Math.ceil(value) - 1L);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 *
+	 * @return Key of the value read from a row of the primitive column, as by
+	 *         {@link ColumnKeys#key(InvokableColumn, Object)}
+	 */
+	private static KeyReader toKeyReader(InvokableColumn column) {
+
+		Class<?> type = column.getType();
+		KeyReader result = null;
+
+		if (type == boolean.class) {
+			result = rowObjInstance -> column.getBoolean(rowObjInstance) ? 1L : 0L;
+		} else if (type == long.class) {
+			result = column::getLong;
+		} else if (type == double.class || type == float.class) {
+			result = rowObjInstance -> ColumnKeys.doubleKey(column.getDouble(rowObjInstance));
+		} else {
+			result = column::getInt;
+		}
+
+		return result;
+	}
+
+	private static Object requireBound(Object bound) {
+
+		if (bound == null) {
+			throw new NullPointerException("Bound cannot be null");
+		}
+
+		return bound;
+	}
+
+	private static List<RowPredicate> requirePredicates(RowPredicate[] predicates) {
+
+		List<RowPredicate> result = new ArrayList<>();
+
+		if (predicates == null) {
+			throw new NullPointerException("Predicates cannot be null");
+		}
+
+		for (RowPredicate predicate : predicates) {
+
+			if (predicate == null) {
+				throw new NullPointerException("Predicates cannot be null");
+			}
+
+			result.add(predicate);
+		}
+
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Reads a primitive column as a <tt>long</tt> key, without boxing
+	 */
+	@FunctionalInterface
+	private interface KeyReader {
+		long read(Object rowObjInstance);
+	}
+
+	/**
+	 * Value between optional bounds
+	 */
+	static final class Range extends RowPredicate {
+
+		final String columnName;
+		final Object low;
+		final boolean isLowInclusive;
+		final Object high;
+		final boolean isHighInclusive;
+
+		private Range(String columnName, Object low, boolean isLowInclusive, Object high, boolean isHighInclusive) {
+
+			if (columnName == null) {
+				throw new NullPointerException("Column name cannot be null");
+			}
+
+			this.columnName = columnName;
+			this.low = low;
+			this.isLowInclusive = isLowInclusive;
+			this.high = high;
+			this.isHighInclusive = isHighInclusive;
+		}
+
+		@Override
+		Predicate<Object> compileFor(ObjectTableModel<?> model) {
+
+			InvokableColumn column = findColumn(model, columnName);
+			Predicate<Object> result = null;
+			Long lowKey = Long.MIN_VALUE;
+			Long highKey = Long.MAX_VALUE;
+
+			if (ColumnKeys.isPrimitive(column.getType())) {
+
+				if (low != null) {
+					lowKey = toKey(column.getType(), low, true, isLowInclusive);
+				}
+
+				if (high != null) {
+					highKey = toKey(column.getType(), high, false, isHighInclusive);
+				}
+
+				if (lowKey == null || highKey == null || lowKey > highKey) {
+
+					result = rowObjInstance -> false;
+
+				} else {
+
+					final long from = lowKey;
+					final long to = highKey;
+
+					final KeyReader reader = toKeyReader(column);
+
+					result = rowObjInstance -> {
+
+						long key = reader.read(rowObjInstance);
+
+						return key >= from && key <= to;
+					};
+				}
+
+			} else if (low != null && low == high) {
+
+				result = rowObjInstance -> low.equals(column.getValue(rowObjInstance));
+
+			} else {
+
+				result = rowObjInstance -> {
+
+					Object value = column.getValue(rowObjInstance);
+					int lowOrder = (value == null || low == null ? 1 : InvokableColumn.compareValues(value, low));
+					int highOrder = (value == null || high == null ? -1 : InvokableColumn.compareValues(value, high));
+
+					return value != null && (isLowInclusive ? lowOrder >= 0 : lowOrder > 0)
+							&& (isHighInclusive ? highOrder <= 0 : highOrder < 0);
+				};
+			}
+
+			return result;
+		}
+
+		@Override
+		boolean impliesLeaf(RowPredicate other) {
+
+			boolean result = false;
+			boolean isLowWithin = false;
+			boolean isHighWithin = false;
+			Range range = null;
+			Integer lowOrder = null;
+			Integer highOrder = null;
+
+			if (other instanceof Range && columnName.equals(((Range) other).columnName)) {
+
+				range = (Range) other;
+
+				if (range.low == null) {
+					isLowWithin = true;
+				} else if (low != null && (lowOrder = compareBounds(low, range.low)) != null) {
+					isLowWithin = lowOrder > 0 || (lowOrder == 0 && (range.isLowInclusive || !isLowInclusive));
+				}
+
+				if (range.high == null) {
+					isHighWithin = true;
+				} else if (high != null && (highOrder = compareBounds(high, range.high)) != null) {
+					isHighWithin = highOrder < 0 || (highOrder == 0 && (range.isHighInclusive || !isHighInclusive));
+				}
+
+				result = isLowWithin && isHighWithin;
+
+			} else if (other instanceof In && columnName.equals(((In) other).columnName)) {
+
+				result = (low != null && low == high && ((In) other).values.contains(low));
+			}
+
+			return result;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			boolean result = false;
+			Range other = null;
+
+			if (obj instanceof Range) {
+
+				other = (Range) obj;
+
+				result = columnName.equals(other.columnName) && Objects.equals(low, other.low)
+						&& isLowInclusive == other.isLowInclusive && Objects.equals(high, other.high)
+						&& isHighInclusive == other.isHighInclusive;
+			}
+
+			return result;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(columnName, low, isLowInclusive, high, isHighInclusive);
+		}
+
+		@Override
+		public String toString() {
+
+			String result = null;
+
+			if (low != null && low == high) {
+				result = columnName + " = " + low;
+			} else if (low == null) {
+				result = columnName + (isHighInclusive ? " <= " : " < ") + high;
+			} else if (high == null) {
+				result = columnName + (isLowInclusive ? " >= " : " > ") + low;
+			} else {
+				result = columnName + " between " + low + " and " + high;
+			}
+
+			return result;
+		}
+	}
+
+	/**
+	 * Value in a set
+	 */
+	static final class In extends RowPredicate {
+
+		final String columnName;
+		final Set<?> values;
+
+		private In(String columnName, Set<?> values) {
+
+			if (columnName == null) {
+				throw new NullPointerException("Column name cannot be null");
+			}
+
+			this.columnName = columnName;
+			this.values = Collections.unmodifiableSet(values);
+		}
+
+		@Override
+		Predicate<Object> compileFor(ObjectTableModel<?> model) {
+
+			InvokableColumn column = findColumn(model, columnName);
+			Predicate<Object> result = null;
+			long[] keys = null;
+			int count = 0;
+			Long key = null;
+
+			if (ColumnKeys.isPrimitive(column.getType())) {
+
+				keys = new long[values.size()];
+
+				for (Object value : values) {
+
+					key = (value == null ? null : toKey(column.getType(), value, true, true));
+
+					// Values no value of the type equals
+					if (key != null && key.equals(toKey(column.getType(), value, false, true))) {
+						keys[count++] = key;
+					}
+				}
+
+				Arrays.sort(keys, 0, count);
+
+				final long[] sortedKeys = Arrays.copyOf(keys, count);
+
+				final KeyReader reader = toKeyReader(column);
+
+				result = rowObjInstance -> Arrays.binarySearch(sortedKeys, reader.read(rowObjInstance)) >= 0;
+
+			} else {
+
+				result = rowObjInstance -> values.contains(column.getValue(rowObjInstance));
+			}
+
+			return result;
+		}
+
+		@Override
+		boolean impliesLeaf(RowPredicate other) {
+
+			boolean result = false;
+
+			if (other instanceof In && columnName.equals(((In) other).columnName)) {
+
+				result = ((In) other).values.containsAll(values);
+
+			} else if (other instanceof Range && columnName.equals(((Range) other).columnName)) {
+
+				result = true;
+
+				for (Object value : values) {
+					result &= (value != null && new Range(columnName, value, true, value, true).impliesLeaf(other));
+				}
+			}
+
+			return result;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof In && columnName.equals(((In) obj).columnName) && values.equals(((In) obj).values);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * columnName.hashCode() + values.hashCode();
+		}
+
+		@Override
+		public String toString() {
+			return columnName + " in " + values;
+		}
+	}
+
+	/**
+	 * String form of the value contains a text
+	 */
+	static final class Contains extends RowPredicate {
+
+		final String columnName;
+		final String text;
+		final boolean isIgnoringCase;
+
+		private Contains(String columnName, String text, boolean isIgnoringCase) {
+
+			if (columnName == null) {
+				throw new NullPointerException("Column name cannot be null");
+			}
+
+			this.columnName = columnName;
+			this.text = text;
+			this.isIgnoringCase = isIgnoringCase;
+		}
+
+		@Override
+		Predicate<Object> compileFor(ObjectTableModel<?> model) {
+
+			InvokableColumn column = findColumn(model, columnName);
+			Predicate<Object> result = null;
+
+			if (isIgnoringCase) {
+
+				result = rowObjInstance -> {
+
+					Object value = column.getValue(rowObjInstance);
+
+					return value != null && containsIgnoringCase(value.toString(), text);
+				};
+
+			} else {
+
+				result = rowObjInstance -> {
+
+					Object value = column.getValue(rowObjInstance);
+
+					return value != null && value.toString().contains(text);
+				};
+			}
+
+			return result;
+		}
+
+		/**
+		 * A text containing the text of the other, e.g. typed further
+		 */
+		@Override
+		boolean impliesLeaf(RowPredicate other) {
+
+			boolean result = false;
+			Contains contains = null;
+
+			if (other instanceof Contains && columnName.equals(((Contains) other).columnName)) {
+
+				contains = (Contains) other;
+
+				result = (contains.isIgnoringCase ? containsIgnoringCase(text, contains.text)
+						: !isIgnoringCase && text.contains(contains.text));
+			}
+
+			return result;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			boolean result = false;
+			Contains other = null;
+
+			if (obj instanceof Contains) {
+
+				other = (Contains) obj;
+
+				result = columnName.equals(other.columnName) && text.equals(other.text)
+						&& isIgnoringCase == other.isIgnoringCase;
+			}
+
+			return result;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(columnName, text, isIgnoringCase);
+		}
+
+		@Override
+		public String toString() {
+			return columnName + (isIgnoringCase ? " contains ignoring case " : " contains ") + text;
+		}
+
+		private static boolean containsIgnoringCase(String value, String text) {
+
+			boolean result = false;
+
+			for (int i = value.length() - text.length(); i >= 0 && !result; i--) {
+				result = value.regionMatches(true, i, text, 0, text.length());
+			}
+
+			return result;
+		}
+	}
+
+	/**
+	 * String form of the value contains a match of a regular expression
+	 */
+	static final class Matches extends RowPredicate {
+
+		final String columnName;
+		final Pattern pattern;
+
+		private Matches(String columnName, Pattern pattern) {
+
+			if (columnName == null) {
+				throw new NullPointerException("Column name cannot be null");
+			}
+
+			this.columnName = columnName;
+			this.pattern = pattern;
+		}
+
+		@Override
+		Predicate<Object> compileFor(ObjectTableModel<?> model) {
+
+			InvokableColumn column = findColumn(model, columnName);
+
+			return rowObjInstance -> {
+
+				Object value = column.getValue(rowObjInstance);
+
+				return value != null && pattern.matcher(value.toString()).find();
+			};
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			boolean result = false;
+			Matches other = null;
+
+			if (obj instanceof Matches) {
+
+				other = (Matches) obj;
+
+				result = columnName.equals(other.columnName) && pattern.pattern().equals(other.pattern.pattern())
+						&& pattern.flags() == other.pattern.flags();
+			}
+
+			return result;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(columnName, pattern.pattern(), pattern.flags());
+		}
+
+		@Override
+		public String toString() {
+			return columnName + " matches " + pattern;
+		}
+	}
+
+	/**
+	 * All or any of the predicates
+	 */
+	static final class Junction extends RowPredicate {
+
+		final boolean isAll;
+		final List<RowPredicate> predicates;
+
+		private Junction(boolean isAll, List<RowPredicate> predicates) {
+			this.isAll = isAll;
+			this.predicates = predicates;
+		}
+
+		@Override
+		Predicate<Object> compileFor(ObjectTableModel<?> model) {
+
+			Predicate<Object> result = null;
+			Predicate<Object> next = null;
+
+			for (RowPredicate predicate : predicates) {
+
+				next = predicate.compileFor(model);
+
+				if (result == null) {
+					result = next;
+				} else if (isAll) {
+					result = result.and(next);
+				} else {
+					result = result.or(next);
+				}
+			}
+
+			if (result == null) {
+				result = (isAll ? rowObjInstance -> true : rowObjInstance -> false);
+			}
+
+			return result;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof Junction && isAll == ((Junction) obj).isAll
+					&& predicates.equals(((Junction) obj).predicates);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * Boolean.hashCode(isAll) + predicates.hashCode();
+		}
+
+		@Override
+		public String toString() {
+
+			StringBuilder result = new StringBuilder("(");
+
+			for (int i = 0; i < predicates.size(); i++) {
+
+				if (i > 0) {
+					result.append(isAll ? " and " : " or ");
+				}
+
+				result.append(predicates.get(i));
+			}
+
+			return result.append(')').toString();
+		}
+	}
+
+	/**
+	 * Predicate does not match
+	 */
+	static final class Not extends RowPredicate {
+
+		final RowPredicate predicate;
+
+		private Not(RowPredicate predicate) {
+			this.predicate = predicate;
+		}
+
+		@Override
+		Predicate<Object> compileFor(ObjectTableModel<?> model) {
+			return predicate.compileFor(model).negate();
+		}
+
+		@Override
+		boolean impliesLeaf(RowPredicate other) {
+			return other instanceof Not && ((Not) other).predicate.implies(predicate);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof Not && predicate.equals(((Not) obj).predicate);
+		}
+
+		@Override
+		public int hashCode() {
+			return -predicate.hashCode();
+		}
+
+		@Override
+		public String toString() {
+			return "not " + predicate;
+		}
+	}
+}
@@ -0,0 +1,454 @@
+package javax.swing.table.object;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * <p>
+ * Background scanner for rows without change events (plain objects mutated
+ * outside the table), for which the only alternative is repainting
+ * everything.
+ * </p>
+ * <p>
+ * Each scan takes a snapshot of the rows on the event dispatch thread, then
+ * hashes the column values of every row into 64 bits on a fork/join pool and
+ * compares them with the previous scan. Rows whose hash changed are refreshed
+ * through a {@link RowUpdateQueue}, so a scan fires one update event per range
+ * of adjacent changed rows. The visible rows are scanned and refreshed before
+ * the others.
+ * </p>
+ * <p>
+ * The CPU budget is the share of all processors the scanner may use on
+ * average: it bounds the parallelism of the pool and, when a scan takes
+ * longer than the budget allows, the pause before the next one is stretched
+ * beyond the interval. Column values are read off the event dispatch thread,
+ * so a row being mutated may be hashed half way through its change; the next
+ * scan picks up the rest. Action columns are never read.
+ * </p>
+ *
+ * @author Antony Hixson
+ *
+ */
+public final class RowScanner<T> {
+
+	/**
+	 * Default pause between scans, in milliseconds
+	 */
+	public static final long DEFAULT_INTERVAL = 500L;
+
+	/**
+	 * Default share of all processors used on average
+	 */
+	public static final double DEFAULT_CPU_BUDGET = 0.25;
+
+	/**
+	 * Rows hashed by one fork/join task
+	 */
+	private static final int CHUNK_ROWS = 4096;
+
+	private static final int OBJECT = 0;
+	private static final int INT = 1;
+	private static final int LONG = 2;
+	private static final int DOUBLE = 3;
+	private static final int BOOLEAN = 4;
+	private static final int SKIP = 5;
+
+	private final ObjectTableModel<T> model;
+	private final RowUpdateQueue<T> updateQueue;
+	private final Supplier<int[]> visibleRows;
+	private final InvokableColumn[] columns;
+	private final int[] kinds;
+
+	private volatile long interval;
+	private volatile double cpuBudget;
+	private volatile long scanCount;
+	private volatile long changedCount;
+	private Thread thread;
+
+	/**
+	 * Previous scan, guarded by <tt>columns</tt>
+	 */
+	private Object[] lastRows;
+	private long[] lastHashes;
+	private Map<Object, Integer> lastPositions;
+
+	/**
+	 *
+	 * @param model
+	 *            - Model whose rows are scanned, paged models are not
+	 *            supported
+	 * @param updateQueue
+	 *            - Refreshes the rows that changed
+	 * @param visibleRows
+	 *            - Called on the event dispatch thread, returns the visible
+	 *            rows (for model) to scan first, or <tt>null</tt>
+	 */
+	public RowScanner(ObjectTableModel<T> model, RowUpdateQueue<T> updateQueue, Supplier<int[]> visibleRows) {
+
+		Class<?> type = null;
+
+		if (model == null) {
+			throw new NullPointerException("Model cannot be null");
+		} else if (updateQueue == null) {
+			throw new NullPointerException("Update queue cannot be null");
+		} else if (model instanceof PagedTableModel) {
+			throw new IllegalArgumentException("Paged models cannot be scanned");
+		}
+
+		this.model = model;
+		this.updateQueue = updateQueue;
+		this.visibleRows = visibleRows;
+		this.columns = model.getInvokableColumns().toArray(new InvokableColumn[0]);
+		this.kinds = new int[columns.length];
+		this.interval = DEFAULT_INTERVAL;
+		this.cpuBudget = DEFAULT_CPU_BUDGET;
+		this.lastRows = new Object[0];
+		this.lastHashes = new long[0];
+
+		for (int i = 0; i < columns.length; i++) {
+
+			type = columns[i].getType();
+
+			if (type == void.class || type == Runnable.class) {
+				kinds[i] = SKIP;
+			} else if (type == int.class || type == short.class || type == byte.class || type == char.class) {
+				kinds[i] = INT;
+			} else if (type == long.class) {
+				kinds[i] = LONG;
+			} else if (type == double.class || type == float.class) {
+				kinds[i] = DOUBLE;
+			} else if (type == boolean.class) {
+				kinds[i] = BOOLEAN;
+			} else {
+				kinds[i] = OBJECT;
+			}
+		}
+	}
+
+	/**
+	 * Start scanning on a background thread, the first scan only records the
+	 * hashes.
+	 */
+	public synchronized void start() {
+
+		if (thread == null) {
+			thread = new Thread(this::run, "Row scanner");
+			thread.setDaemon(true);
+			thread.start();
+		}
+	}
+
+	/**
+	 * Stop scanning, the hashes are kept for when it starts again.
+	 */
+	public synchronized void stop() {
+
+		if (thread != null) {
+			thread.interrupt();
+			thread = null;
+		}
+	}
+
+	public synchronized boolean isRunning() {
+		return thread != null;
+	}
+
+	/**
+	 *
+	 * @return Pause between scans, in milliseconds
+	 */
+	public long getInterval() {
+		return interval;
+	}
+
+	/**
+	 *
+	 * @param interval
+	 *            - Pause between scans, in milliseconds
+	 */
+	public void setInterval(long interval) {
+
+		if (interval < 1) {
+			throw new IllegalArgumentException("Interval must be positive");
+		}
+
+		this.interval = interval;
+	}
+
+	/**
+	 *
+	 * @return Share of all processors used on average
+	 */
+	public double getCpuBudget() {
+		return cpuBudget;
+	}
+
+	/**
+	 *
+	 * @param cpuBudget
+	 *            - Share of all processors used on average, above 0 and at
+	 *            most 1
+	 */
+	public void setCpuBudget(double cpuBudget) {
+
+		if (!(cpuBudget > 0 && cpuBudget <= 1)) {
+			throw new IllegalArgumentException("CPU budget must be above 0 and at most 1");
+		}
+
+		this.cpuBudget = cpuBudget;
+	}
+
+	/**
+	 *
+	 * @return Scans completed
+	 */
+	public long getScanCount() {
+		return scanCount;
+	}
+
+	/**
+	 *
+	 * @return Row changes found over all scans
+	 */
+	public long getChangedCount() {
+		return changedCount;
+	}
+
+	private void run() {
+
+		ForkJoinPool pool = null;
+		long started = 0L;
+		long elapsed = 0L;
+		int processors = 0;
+		int parallelism = 0;
+
+		try {
+
+			while (!Thread.currentThread().isInterrupted()) {
+
+				processors = Runtime.getRuntime().availableProcessors();
+				parallelism = Math.max(1, (int) Math.floor(processors * cpuBudget));
+
+				if (pool == null || pool.getParallelism() != parallelism) {
+
+					if (pool != null) {
+						pool.shutdown();
+					}
+
+					pool = new ForkJoinPool(parallelism);
+				}
+
+				started = System.nanoTime();
+
+				synchronized (columns) {
+					scan(pool);
+				}
+
+				elapsed = (System.nanoTime() - started) / 1000000L;
+
+				// CPU used by the scan, spread over the pause
+				Thread.sleep(Math.max(interval, (long) (elapsed * parallelism / (processors * cpuBudget)) - elapsed));
+			}
+
+		} catch (InterruptedException e) {
+
+			// Stopped
+
+		} finally {
+
+			if (pool != null) {
+				pool.shutdown();
+			}
+		}
+	}
+
+	/**
+	 * Called holding <tt>columns</tt>, a stopped scanner thread may still be
+	 * finishing its scan
+	 */
+	private void scan(ForkJoinPool pool) throws InterruptedException {
+
+		Object[][] snapshot = new Object[1][];
+		int[][] visible = new int[1][];
+		Object[] rows = null;
+		long[] hashes = null;
+		boolean[] isVisible = null;
+
+		try {
+
+			SwingUtilities.invokeAndWait(() -> {
+				snapshot[0] = model.getRows().toArray();
+				visible[0] = (visibleRows == null ? null : visibleRows.get());
+			});
+
+		} catch (InvocationTargetException e) {
+
+			e.getCause().printStackTrace();
+		}
+
+		rows = snapshot[0];
+
+		if (rows != null) {
+
+			hashes = new long[rows.length];
+			isVisible = new boolean[rows.length];
+
+			// Visible rows first, refreshed without waiting for the rest
+			if (visible[0] != null) {
+
+				for (int row : visible[0]) {
+					if (row >= 0 && row < rows.length && !isVisible[row]) {
+						isVisible[row] = true;
+						hashes[row] = hash(rows[row]);
+						compare(rows, hashes, row);
+					}
+				}
+			}
+
+			pool.invoke(new HashTask(rows, hashes, isVisible, 0, rows.length));
+
+			for (int i = 0; i < rows.length; i++) {
+				if (!isVisible[i]) {
+					compare(rows, hashes, i);
+				}
+			}
+
+			lastRows = rows;
+			lastHashes = hashes;
+			lastPositions = null;
+			scanCount++;
+		}
+	}
+
+	/**
+	 * Queue a refresh of the row when its hash differs from the previous
+	 * scan.
+	 */
+	@SuppressWarnings("unchecked")
+	private void compare(Object[] rows, long[] hashes, int row) {
+
+		Integer last = null;
+
+		if (row < lastRows.length && lastRows[row] == rows[row]) {
+
+			last = row;
+
+		} else if (rows[row] != null) {
+
+			// Rows moved since the previous scan
+			if (lastPositions == null) {
+
+				lastPositions = new IdentityHashMap<>(lastRows.length * 2);
+
+				for (int i = 0; i < lastRows.length; i++) {
+					lastPositions.put(lastRows[i], i);
+				}
+			}
+
+			last = lastPositions.get(rows[row]);
+		}
+
+		if (last != null && lastHashes[last] != hashes[row]) {
+			changedCount++;
+			updateQueue.update((T) rows[row]);
+		}
+	}
+
+	/**
+	 *
+	 * @return Hash of the column values of the row
+	 */
+	private long hash(Object rowObjInstance) {
+
+		long result = 17L;
+		long value = 0L;
+
+		if (rowObjInstance != null) {
+
+			for (int i = 0; i < columns.length; i++) {
+
+				switch (kinds[i]) {
+
+				case INT:
+					value = columns[i].getInt(rowObjInstance);
+					break;
+
+				case LONG:
+					value = columns[i].getLong(rowObjInstance);
+					break;
+
+				case DOUBLE:
+					value = Double.doubleToLongBits(columns[i].getDouble(rowObjInstance));
+					break;
+
+				case BOOLEAN:
+					value = columns[i].getBoolean(rowObjInstance) ? 1231L : 1237L;
+					break;
+
+				case OBJECT:
+					value = Objects.hashCode(columns[i].getValue(rowObjInstance));
+					break;
+
+				default:
+					continue;
+				}
+
+				result = (result ^ value) * 0x9E3779B97F4A7C15L;
+				result ^= result >>> 29;
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Hashes a range of rows, split in chunks of {@link #CHUNK_ROWS}
+	 */
+	private final class HashTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final Object[] rows;
+		private final long[] hashes;
+		private final boolean[] isHashed;
+		private final int from;
+		private final int to;
+
+		private HashTask(Object[] rows, long[] hashes, boolean[] isHashed, int from, int to) {
+			this.rows = rows;
+			this.hashes = hashes;
+			this.isHashed = isHashed;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+
+			int middle = 0;
+
+			if (to - from > CHUNK_ROWS) {
+
+				middle = (from + to) >>> 1;
+
+				invokeAll(new HashTask(rows, hashes, isHashed, from, middle),
+						new HashTask(rows, hashes, isHashed, middle, to));
+
+			} else {
+
+				for (int i = from; i < to; i++) {
+					if (!isHashed[i]) {
+						hashes[i] = hash(rows[i]);
+					}
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package javax.swing.table.object;
+
+import java.util.List;
+
+/**
+ * <p>
+ * Supplies rows on demand for a {@link PagedTableModel}, for tables that are
+ * too large to keep in memory (files, embedded databases, ...).
+ * </p>
+ * <p>
+ * {@link #fetch(int, int)} is called from a background thread.
+ * </p>
+ * 
+ * @author Antony Hixson
+ *
+ */
+public interface RowSource<T> {
+
+	/**
+	 * 
+	 * @return Total number of rows
+	 */
+	int getRowCount();
+
+	/**
+	 * Load a contiguous page of rows.
+	 * 
+	 * @param firstRow
+	 *            - First row to load
+	 * @param count
+	 *            - Number of rows to load
+	 * @return Loaded rows, at most <tt>count</tt>
+	 * @throws Exception
+	 *             Rows could not be loaded (the page is requested again the
+	 *             next time it is painted)
+	 */
+	List<T> fetch(int firstRow, int count) throws Exception;
+}
@@ -0,0 +1,571 @@
+package javax.swing.table.object;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+/**
+ * <p>
+ * Thread-safe ingestion of row inserts, updates and removals for an
+ * {@link ObjectTableModel}, which itself must only be changed on the event
+ * dispatch thread.
+ * </p>
+ * <p>
+ * Changes may be queued from any thread. They are coalesced per row (by
+ * identity) and per cell as they arrive, and drained onto the event dispatch
+ * thread at most once per frame:
+ * </p>
+ * <ul>
+ * <li>The rows removed are removed with
+ * {@link ObjectTableModel#removeRows(java.util.Collection)} (one delete event
+ * per range of adjacent rows)</li>
+ * <li>The rows updated are refreshed with one update event per range of
+ * adjacent rows, a row alone whose only change is one cell fires a cell update
+ * event instead</li>
+ * <li>The rows added are appended with
+ * {@link ObjectTableModel#addRows(java.util.Collection)} (one insert
+ * event)</li>
+ * </ul>
+ * <p>
+ * The last value set for a cell wins. A row is queued for insertion once, a
+ * row added then removed before the drain is dropped and a row removed then
+ * added back stays where it is, or is appended when it was not in the model.
+ * Cells set on a row before or after it is queued for insertion are written
+ * before it is inserted, changes to a row waiting to be removed are
+ * discarded.
+ * Changes the model refuses (e.g. a value already held by another row of a
+ * unique column) are printed and skipped, the rest of the batch is applied.
+ * </p>
+ *
+ * @author Antony Hixson
+ *
+ */
+public class RowUpdateQueue<T> {
+
+	/**
+	 * Drains per second unless given another rate
+	 */
+	public static final int DEFAULT_FRAME_RATE = 60;
+
+	private static final int ADD = 0;
+	private static final int UPDATE = 1;
+	private static final int REMOVE = 2;
+
+	/**
+	 * Queued for a cell that changed without a value to write
+	 */
+	private static final Object REFRESH = new Object();
+
+	private final ObjectTableModel<T> model;
+	private final Timer timer;
+
+	/**
+	 * Guarded by <tt>this</tt>
+	 */
+	private Map<T, Pending> pending;
+	private List<T> added;
+	private boolean isScheduled;
+
+	/**
+	 *
+	 * @param model
+	 *            - Model the changes are applied to, paged models are not
+	 *            supported
+	 */
+	public RowUpdateQueue(ObjectTableModel<T> model) {
+		this(model, DEFAULT_FRAME_RATE);
+	}
+
+	/**
+	 *
+	 * @param model
+	 *            - Model the changes are applied to, paged models are not
+	 *            supported
+	 * @param frameRate
+	 *            - Most drains per second
+	 */
+	public RowUpdateQueue(ObjectTableModel<T> model, int frameRate) {
+
+		if (model == null) {
+			throw new NullPointerException("Model cannot be null");
+		} else if (model instanceof PagedTableModel) {
+			throw new IllegalArgumentException("Paged models cannot be updated by row");
+		} else if (frameRate < 1) {
+			throw new IllegalArgumentException("Frame rate must be positive");
+		}
+
+		this.model = model;
+		this.timer = new Timer(Math.max(1, 1000 / frameRate), event -> flush());
+		this.pending = new IdentityHashMap<>();
+		this.added = new ArrayList<>();
+
+		timer.setRepeats(false);
+
+		// A coalescing timer drops the event of a restart made while its action
+		// is running
+		timer.setCoalesce(false);
+	}
+
+	/**
+	 * Queue a new row.
+	 *
+	 * @param aValue
+	 *            - Row to append
+	 */
+	public void add(T aValue) {
+
+		Pending entry = null;
+
+		if (aValue == null) {
+			throw new NullPointerException("No value supplied");
+		}
+
+		synchronized (this) {
+
+			entry = pending.get(aValue);
+
+			if (entry == null) {
+
+				pending.put(aValue, new Pending(ADD, false));
+				added.add(aValue);
+
+			} else if (entry.kind == REMOVE) {
+
+				// Removed and added back, stays where it is unless it was not
+				// in the model
+				entry.kind = UPDATE;
+				entry.isRowUpdated = true;
+				entry.isAddedBack = true;
+				added.add(aValue);
+
+			} else if (entry.kind == UPDATE && !entry.isAddedBack) {
+
+				// Cells already set are written before it is inserted
+				entry.kind = ADD;
+				added.add(aValue);
+			}
+
+			schedule();
+		}
+	}
+
+	/**
+	 * Queue the removal of every row equal to the value.
+	 *
+	 * @param aValue
+	 *            - Row to remove
+	 */
+	public void remove(T aValue) {
+
+		Pending entry = null;
+
+		if (aValue == null) {
+			throw new NullPointerException("No value supplied");
+		}
+
+		synchronized (this) {
+
+			entry = pending.get(aValue);
+
+			if (entry == null) {
+
+				pending.put(aValue, new Pending(REMOVE, false));
+
+			} else if (entry.kind == ADD) {
+
+				// Never reaches the model
+				pending.remove(aValue);
+				removeAdded(aValue);
+
+			} else {
+
+				if (entry.isAddedBack) {
+					removeAdded(aValue);
+				}
+
+				entry.kind = REMOVE;
+				entry.isAddedBack = false;
+				entry.cells = null;
+			}
+
+			schedule();
+		}
+	}
+
+	/**
+	 * Queue a refresh of a row whose fields were changed directly.
+	 *
+	 * @param aValue
+	 *            - Row to repaint
+	 */
+	public void update(T aValue) {
+
+		Pending entry = null;
+
+		if (aValue == null) {
+			throw new NullPointerException("No value supplied");
+		}
+
+		synchronized (this) {
+
+			entry = pending.get(aValue);
+
+			if (entry == null) {
+				pending.put(aValue, new Pending(UPDATE, true));
+			} else if (entry.kind == UPDATE) {
+				entry.isRowUpdated = true;
+			}
+
+			schedule();
+		}
+	}
+
+	/**
+	 * Queue a refresh of a cell whose value was changed directly.
+	 *
+	 * @param aValue
+	 *            - Row
+	 * @param columnName
+	 *            - Name of the column
+	 * @throws IllegalArgumentException
+	 *             No column has that name
+	 */
+	public void update(T aValue, String columnName) throws IllegalArgumentException {
+		queueCell(aValue, columnName, REFRESH);
+	}
+
+	/**
+	 * Queue the value of a cell, replacing any value queued for it before.
+	 *
+	 * @param aValue
+	 *            - Row
+	 * @param columnName
+	 *            - Name of the column
+	 * @param cellValue
+	 *            - New value of the cell
+	 * @throws IllegalArgumentException
+	 *             No column has that name
+	 */
+	public void setValue(T aValue, String columnName, Object cellValue) throws IllegalArgumentException {
+		queueCell(aValue, columnName, cellValue);
+	}
+
+	/**
+	 *
+	 * @return Rows with changes waiting for the next drain
+	 */
+	public synchronized int getPendingCount() {
+		return pending.size();
+	}
+
+	private void queueCell(T aValue, String columnName, Object cellValue) throws IllegalArgumentException {
+
+		int column = model.findColumn(columnName);
+		Pending entry = null;
+
+		if (aValue == null) {
+			throw new NullPointerException("No value supplied");
+		} else if (column < 0) {
+			throw new IllegalArgumentException("No column named " + columnName);
+		}
+
+		synchronized (this) {
+
+			entry = pending.get(aValue);
+
+			if (entry == null) {
+				entry = new Pending(UPDATE, false);
+				pending.put(aValue, entry);
+			}
+
+			if (entry.kind != REMOVE) {
+
+				if (entry.cells == null) {
+					entry.cells = new LinkedHashMap<>();
+				}
+
+				// A refresh never replaces a value to write
+				if (cellValue == REFRESH) {
+					entry.cells.putIfAbsent(column, cellValue);
+				} else {
+					entry.cells.put(column, cellValue);
+				}
+			}
+
+			schedule();
+		}
+	}
+
+	/**
+	 * Apply every queued change now, on the event dispatch thread.
+	 */
+	public void flush() {
+
+		Map<T, Pending> batch = null;
+		List<T> batchAdded = null;
+
+		if (!SwingUtilities.isEventDispatchThread()) {
+			throw new IllegalStateException("Must be called on the event dispatch thread");
+		}
+
+		synchronized (this) {
+
+			batch = pending;
+			batchAdded = added;
+			pending = new IdentityHashMap<>();
+			added = new ArrayList<>();
+			isScheduled = false;
+		}
+
+		if (!batch.isEmpty()) {
+			drain(batch, batchAdded);
+		}
+	}
+
+	/**
+	 * Called holding <tt>this</tt>
+	 */
+	private void schedule() {
+
+		if (!isScheduled) {
+			isScheduled = true;
+			timer.restart();
+		}
+	}
+
+	private void removeAdded(T aValue) {
+
+		for (int i = added.size() - 1; i >= 0; i--) {
+			if (added.get(i) == aValue) {
+				added.remove(i);
+				break;
+			}
+		}
+	}
+
+	private void drain(Map<T, Pending> batch, List<T> batchAdded) {
+
+		List<T> removed = new ArrayList<>();
+		Map<T, Pending> updated = new IdentityHashMap<>();
+
+		batch.forEach((aValue, entry) -> {
+			if (entry.kind == REMOVE) {
+				removed.add(aValue);
+			} else if (entry.kind == UPDATE) {
+				updated.put(aValue, entry);
+			}
+		});
+
+		try {
+
+			if (!removed.isEmpty()) {
+				model.removeRows(removed);
+			}
+
+		} catch (RuntimeException e) {
+
+			e.printStackTrace();
+		}
+
+		if (!updated.isEmpty()) {
+			applyUpdates(updated);
+		}
+
+		// Rows added back that stayed where they are
+		batchAdded.removeIf(aValue -> batch.get(aValue).isFound);
+
+		try {
+
+			if (!batchAdded.isEmpty()) {
+				batchAdded.forEach(aValue -> writeCells(aValue, batch.get(aValue)));
+				model.addRows(batchAdded);
+			}
+
+		} catch (RuntimeException e) {
+
+			e.printStackTrace();
+		}
+	}
+
+	private void applyUpdates(Map<T, Pending> updated) {
+
+		int[] rows = findRows(updated);
+		int[] touched = new int[rows.length];
+		int[] cellColumns = new int[rows.length];
+		int count = 0;
+
+		for (int i = 0; i < rows.length; i++) {
+
+			if (rows[i] >= 0) {
+
+				Pending entry = updated.get(model.getRow(rows[i]));
+				int written = writeCells(rows[i], entry);
+
+				entry.isFound = true;
+
+				if (entry.isRowUpdated || written > 0) {
+					touched[count] = rows[i];
+					cellColumns[count] = (!entry.isRowUpdated && written == 1 ? entry.writtenColumn : -1);
+					count++;
+				}
+			}
+		}
+
+		fireUpdates(touched, cellColumns, count);
+	}
+
+	/**
+	 * Rows are looked up by identity: only an identity index is used, equal
+	 * rows would hide the row queued and an equality index misses rows whose
+	 * fields were changed directly, so the model is scanned once otherwise.
+	 *
+	 * @return Ascending rows (for model) of the updated rows still in the
+	 *         model
+	 */
+	private int[] findRows(Map<T, Pending> updated) {
+
+		int[] result = new int[updated.size()];
+		int count = 0;
+
+		if (model.getRowIndexMode() != RowIndexMode.IDENTITY) {
+
+			for (int i = 0; i < model.getRowCount() && count < result.length; i++) {
+				if (updated.containsKey(model.getRow(i))) {
+					result[count++] = i;
+				}
+			}
+
+		} else {
+
+			for (T aValue : updated.keySet()) {
+
+				int row = model.indexOf(aValue);
+
+				if (row >= 0) {
+					result[count++] = row;
+				}
+			}
+
+			Arrays.sort(result, 0, count);
+		}
+
+		return Arrays.copyOf(result, count);
+	}
+
+	/**
+	 *
+	 * @return Number of cells written
+	 */
+	private int writeCells(int row, Pending entry) {
+
+		int result = 0;
+
+		if (entry.cells != null) {
+
+			for (Map.Entry<Integer, Object> cell : entry.cells.entrySet()) {
+
+				try {
+
+					if (cell.getValue() == REFRESH || model.writeValueAt(cell.getValue(), row, cell.getKey())) {
+						entry.writtenColumn = cell.getKey();
+						result++;
+					}
+
+				} catch (IllegalArgumentException e) {
+
+					e.printStackTrace();
+				}
+			}
+		}
+
+		return result;
+	}
+
+	private void writeCells(T aValue, Pending entry) {
+
+		if (entry != null && entry.cells != null) {
+			entry.cells.forEach((column, cellValue) -> {
+				if (cellValue != REFRESH) {
+					model.getInvokableColumn(column).setValue(aValue, cellValue);
+				}
+			});
+		}
+	}
+
+	/**
+	 * One event per range of adjacent rows, a cell event for a range of one
+	 * row with one cell written. Above
+	 * {@link ObjectTableModel#MAX_COALESCED_RANGES} ranges, one event covers
+	 * them all.
+	 */
+	private void fireUpdates(int[] rows, int[] cellColumns, int count) {
+
+		int ranges = 0;
+		int start = 0;
+
+		for (int i = 0; i < count; i++) {
+			if (i == 0 || rows[i] != rows[i - 1] + 1) {
+				ranges++;
+			}
+		}
+
+		if (ranges > ObjectTableModel.MAX_COALESCED_RANGES) {
+
+			model.fireTableRowsUpdated(rows[0], rows[count - 1]);
+
+		} else {
+
+			for (int i = 1; i <= count; i++) {
+
+				if (i == count || rows[i] != rows[i - 1] + 1) {
+
+					if (i - start == 1 && cellColumns[start] >= 0) {
+						model.fireTableCellUpdated(rows[start], cellColumns[start]);
+					} else {
+						model.fireTableRowsUpdated(rows[start], rows[i - 1]);
+					}
+
+					start = i;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Changes queued for a row
+	 */
+	private static final class Pending {
+
+		private int kind;
+
+		private boolean isRowUpdated;
+
+		/**
+		 * Removed then added back, appended unless found in the model
+		 */
+		private boolean isAddedBack;
+		private boolean isFound;
+
+		/**
+		 * Latest value per column (for model), <tt>null</tt> until a cell is
+		 * set
+		 */
+		private Map<Integer, Object> cells;
+
+		/**
+		 * Last column (for model) written by the drain
+		 */
+		private int writtenColumn;
+
+		private Pending(int kind, boolean isRowUpdated) {
+			this.kind = kind;
+			this.isRowUpdated = isRowUpdated;
+		}
+	}
+}
@@ -0,0 +1,111 @@
+package javax.swing.table.object;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * Hash index of the values of a {@link Column#unique()} column, used by
+ * {@link ObjectTableModel} to reject duplicates and to look rows up by key.
+ * </p>
+ * <p>
+ * <tt>null</tt> values are not indexed, so any number of rows may leave a
+ * unique column empty.
+ * </p>
+ * 
+ * @author Antony Hixson
+ *
+ */
+final class UniqueIndex {
+
+	private final InvokableColumn column;
+	private final int columnIndex;
+	private final Map<Object, Object> rowsByKey;
+
+	UniqueIndex(InvokableColumn column, int columnIndex) {
+		this.column = column;
+		this.columnIndex = columnIndex;
+		this.rowsByKey = new HashMap<>();
+	}
+
+	InvokableColumn getColumn() {
+		return column;
+	}
+
+	int getColumnIndex() {
+		return columnIndex;
+	}
+
+	/**
+	 * 
+	 * @param key
+	 *            - Column value
+	 * @return Row object holding that value, or <tt>null</tt>
+	 */
+	Object get(Object key) {
+		return key == null ? null : rowsByKey.get(key);
+	}
+
+	/**
+	 * 
+	 * @param key
+	 *            - Column value
+	 * @param owner
+	 *            - (optional) row object that may already hold the value
+	 * @return <tt>No other row holds the value</tt>
+	 */
+	boolean isAvailable(Object key, Object owner) {
+
+		Object existing = get(key);
+
+		return existing == null || existing == owner;
+	}
+
+	/**
+	 * @throws IllegalArgumentException
+	 *             Another row already holds the value
+	 */
+	void requireAvailable(Object key, Object owner) throws IllegalArgumentException {
+		if (!isAvailable(key, owner)) {
+			throw duplicate(key);
+		}
+	}
+
+	IllegalArgumentException duplicate(Object key) {
+		return new IllegalArgumentException(
+				"Duplicate value [" + key + "] for unique column \"" + column.name() + "\"");
+	}
+
+	void add(Object row) {
+
+		Object key = column.getValue(row);
+
+		if (key != null) {
+			rowsByKey.put(key, row);
+		}
+	}
+
+	void remove(Object row) {
+
+		Object key = column.getValue(row);
+
+		if (key != null) {
+			rowsByKey.remove(key, row);
+		}
+	}
+
+	void replaceKey(Object row, Object oldKey, Object newKey) {
+
+		if (oldKey != null) {
+			rowsByKey.remove(oldKey, row);
+		}
+
+		if (newKey != null) {
+			rowsByKey.put(newKey, row);
+		}
+	}
+
+	void clear() {
+		rowsByKey.clear();
+	}
+}
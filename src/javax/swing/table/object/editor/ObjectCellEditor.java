@@ -8,8 +8,7 @@ import java.util.List;
 import javax.swing.AbstractCellEditor;
 import javax.swing.JObjectTable;
 import javax.swing.JTable;
-import javax.swing.table.TableCellEditor;
-import javax.swing.table.TableCellRenderer;
+import javax.swing.cell.TableCell;
 import javax.swing.table.object.InvokableColumn;
 
 /**
@@ -17,23 +16,43 @@ import javax.swing.table.object.InvokableColumn;
  * @author Antony Hixson
  *
  */
-public class ObjectCellEditor extends AbstractCellEditor implements TableCellEditor, TableCellRenderer {
+public class ObjectCellEditor extends AbstractCellEditor implements TableCell {
 
 	private final JObjectTable<?> source;
-	private final JInstantiator viewComponent;
-	private final JInstantiator editComponent;
+	
+	/**
+	 * Created on first use, an instance used only as renderer or only as
+	 * editor builds one panel
+	 */
+	private JInstantiator viewComponent;
+	private JInstantiator editComponent;
 	private final List<RequestListener> requestListenerList;
 	private String lastActionCommand;
 	
 	public ObjectCellEditor(JObjectTable<?> source) {
 		this.source = source;
-		
-		this.viewComponent = new JInstantiator();
-		this.editComponent = new JInstantiator();
-		this.editComponent.addActionListener(this::stopCellEditing);
 		this.requestListenerList = new ArrayList<>();
 	}
 	
+	public JInstantiator getViewComponent() {
+		
+		if (viewComponent == null) {
+			viewComponent = new JInstantiator();
+		}
+		
+		return viewComponent;
+	}
+	
+	public JInstantiator getEditComponent() {
+		
+		if (editComponent == null) {
+			editComponent = new JInstantiator();
+			editComponent.addActionListener(this::stopCellEditing);
+		}
+		
+		return editComponent;
+	}
+	
 	public boolean stopCellEditing(ActionEvent actionEvent) {
 		
 		boolean result = false;
@@ -104,7 +123,7 @@ public class ObjectCellEditor extends AbstractCellEditor implements TableCellEdi
 		
 		value = source.getValueAt(row, column);
 		
-		viewComponent.setObjectValidMode(value != null);
+		getViewComponent().setObjectValidMode(value != null);
 
 		return viewComponent;
 	}
@@ -114,7 +133,7 @@ public class ObjectCellEditor extends AbstractCellEditor implements TableCellEdi
 		
 		value = source.getValueAt(row, column);
 		
-		editComponent.setObjectValidMode(value != null);
+		getEditComponent().setObjectValidMode(value != null);
 
 		return editComponent;
 	}
@@ -0,0 +1,573 @@
+package javax.swing.table.object.processor;
+
+import java.beans.Introspector;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+import javax.swing.table.object.Column;
+import javax.swing.table.object.ColumnAdapter;
+import javax.swing.table.object.ColumnSetter;
+
+/**
+ * <p>
+ * Annotation processor for {@link Column} and {@link ColumnSetter} that
+ * generates a {@link ColumnAdapter} per annotated class, so tables for that
+ * class are built without reflection.
+ * </p>
+ * <p>
+ * The pairing rules that are only assumed at runtime are checked here and
+ * reported as compile errors:
+ * </p>
+ * <ul>
+ * <li>Two fields, two getter methods or two setter methods with the same
+ * column name.</li>
+ * <li>A {@link Column} method that takes parameters.</li>
+ * <li>A {@link ColumnSetter} without a {@link Column} of the same name.</li>
+ * <li>A {@link ColumnSetter} that does not take exactly one argument of the
+ * column's type.</li>
+ * </ul>
+ * <p>
+ * Classes whose columns use private members (or that are private themselves)
+ * are reported as a warning and left to the reflective path.
+ * </p>
+ * 
+ * @author Antony Hixson
+ *
+ */
+public class ColumnProcessor extends AbstractProcessor {
+
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+
+		Set<String> results = new HashSet<>();
+
+		results.add(Column.class.getName());
+		results.add(ColumnSetter.class.getName());
+
+		return results;
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+		Set<TypeElement> types = new LinkedHashSet<>();
+
+		for (Element element : roundEnv.getElementsAnnotatedWith(Column.class)) {
+			types.add((TypeElement) element.getEnclosingElement());
+		}
+
+		for (Element element : roundEnv.getElementsAnnotatedWith(ColumnSetter.class)) {
+			types.add((TypeElement) element.getEnclosingElement());
+		}
+
+		for (TypeElement type : types) {
+
+			List<ColumnModel> columns = resolveColumns(type);
+
+			if (columns != null && isAccessible(type, columns)) {
+				writeAdapter(type, columns);
+			}
+		}
+
+		// Claimed, no other processor handles these annotations
+		return true;
+	}
+
+	/**
+	 * Mirrors the grouping of {@code InvokableColumn.generateFor}: declared
+	 * fields, public (inherited) getter methods with priority over fields, and
+	 * public setter methods.
+	 * 
+	 * @param type
+	 *            - Class to examine
+	 * @return Columns in declaration order, or <tt>null</tt> on errors
+	 */
+	private List<ColumnModel> resolveColumns(TypeElement type) {
+
+		boolean valid = true;
+		Map<String, VariableElement> fields = new LinkedHashMap<>();
+		Map<String, ExecutableElement> getters = new LinkedHashMap<>();
+		Map<String, ExecutableElement> setters = new LinkedHashMap<>();
+		Map<String, ColumnModel> columns = new LinkedHashMap<>();
+		List<ExecutableElement> methods = null;
+		Column column = null;
+		ColumnSetter columnSetter = null;
+		ColumnModel model = null;
+		TypeMirror parameterType = null;
+
+		for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+
+			column = field.getAnnotation(Column.class);
+
+			if (column != null && fields.put(column.name(), field) != null) {
+				error(field, "Duplicate field for column \"" + column.name() + "\"");
+				valid = false;
+			}
+		}
+
+		methods = ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type));
+
+		for (ExecutableElement method : methods) {
+
+			if (!method.getModifiers().contains(Modifier.PUBLIC)) {
+				continue;
+			}
+
+			column = method.getAnnotation(Column.class);
+			columnSetter = method.getAnnotation(ColumnSetter.class);
+
+			if (column != null) {
+
+				if (!method.getParameters().isEmpty()) {
+					error(method, "Column method \"" + column.name() + "\" cannot take parameters");
+					valid = false;
+				} else if (getters.put(column.name(), method) != null) {
+					error(method, "Duplicate getter method for column \"" + column.name() + "\"");
+					valid = false;
+				}
+			}
+
+			if (columnSetter != null && setters.put(columnSetter.name(), method) != null) {
+				error(method, "Duplicate setter method for column \"" + columnSetter.name() + "\"");
+				valid = false;
+			}
+		}
+
+		for (Map.Entry<String, VariableElement> entry : fields.entrySet()) {
+			if (!getters.containsKey(entry.getKey())) {
+				model = new ColumnModel(entry.getValue().getAnnotation(Column.class), entry.getValue().asType());
+				model.field = entry.getValue();
+				columns.put(entry.getKey(), model);
+			}
+		}
+
+		for (Map.Entry<String, ExecutableElement> entry : getters.entrySet()) {
+			model = new ColumnModel(entry.getValue().getAnnotation(Column.class), entry.getValue().getReturnType());
+			model.getter = entry.getValue();
+			columns.put(entry.getKey(), model);
+		}
+
+		for (Map.Entry<String, ExecutableElement> entry : setters.entrySet()) {
+
+			model = columns.get(entry.getKey());
+
+			if (model == null) {
+
+				error(entry.getValue(), "Column setter \"" + entry.getKey() + "\" has no matching @Column");
+				valid = false;
+
+			} else if (entry.getValue().getParameters().size() != 1) {
+
+				error(entry.getValue(), "Column setter \"" + entry.getKey() + "\" must take exactly one argument");
+				valid = false;
+
+			} else {
+
+				parameterType = entry.getValue().getParameters().get(0).asType();
+
+				if (!processingEnv.getTypeUtils().isSameType(erasure(parameterType), erasure(model.type))) {
+					error(entry.getValue(), "Column setter \"" + entry.getKey() + "\" takes " + parameterType
+							+ " but the column is of type " + model.type);
+					valid = false;
+				} else {
+					model.setter = entry.getValue();
+				}
+			}
+		}
+
+		return valid ? new ArrayList<>(columns.values()) : null;
+	}
+
+	/**
+	 * Generated code lives in the same package, so it can reach anything that
+	 * is not private.
+	 */
+	private boolean isAccessible(TypeElement type, List<ColumnModel> columns) {
+
+		boolean result = true;
+		Element enclosing = type;
+
+		while (result && enclosing instanceof TypeElement) {
+			result = !enclosing.getModifiers().contains(Modifier.PRIVATE);
+			enclosing = enclosing.getEnclosingElement();
+		}
+
+		for (ColumnModel column : columns) {
+			result &= column.field == null || !column.field.getModifiers().contains(Modifier.PRIVATE);
+			result &= column.field == null || !column.field.getModifiers().contains(Modifier.STATIC);
+			result &= column.getter == null || !column.getter.getModifiers().contains(Modifier.STATIC);
+			result &= column.setter == null || !column.setter.getModifiers().contains(Modifier.STATIC);
+		}
+
+		if (!result) {
+			processingEnv.getMessager().printMessage(Kind.WARNING,
+					"No column adapter generated, columns use private or static members; reflection will be used",
+					type);
+		}
+
+		return result;
+	}
+
+	private void writeAdapter(TypeElement type, List<ColumnModel> columns) {
+
+		PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+		String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+		String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+		String adapterName = binaryName.substring(binaryName.lastIndexOf('.') + 1) + ColumnAdapter.SUFFIX;
+		String typeName = erasure(type.asType()).toString();
+		JavaFileObject sourceFile = null;
+
+		try {
+
+			sourceFile = processingEnv.getFiler().createSourceFile(
+					packageName.isEmpty() ? adapterName : packageName + "." + adapterName, type);
+
+			try (PrintWriter out = new PrintWriter(sourceFile.openWriter())) {
+
+				if (!packageName.isEmpty()) {
+					out.println("package " + packageName + ";");
+					out.println();
+				}
+
+				out.println("/**");
+				out.println(" * Generated by " + getClass().getName() + " for {@link " + typeName + "}.");
+				out.println(" */");
+				out.println("public final class " + adapterName + " implements javax.swing.table.object.ColumnAdapter {");
+				out.println();
+				out.println("\t@Override");
+				out.println("\tpublic Class<?> getType() {");
+				out.println("\t\treturn " + typeName + ".class;");
+				out.println("\t}");
+				out.println();
+				out.println("\t@Override");
+				out.println("\t@SuppressWarnings({ \"unchecked\", \"rawtypes\" })");
+				out.println("\tpublic java.util.List<javax.swing.table.object.InvokableColumn> createColumns() {");
+				out.println();
+				out.println("\t\tjava.util.List<javax.swing.table.object.InvokableColumn> results = new java.util.ArrayList<>();");
+
+				for (ColumnModel column : columns) {
+					writeColumn(out, typeName, column);
+				}
+
+				out.println();
+				out.println("\t\treturn results;");
+				out.println("\t}");
+				out.println("}");
+			}
+
+		} catch (IOException e) {
+
+			processingEnv.getMessager().printMessage(Kind.ERROR, "Could not write column adapter: " + e, type);
+		}
+	}
+
+	private void writeColumn(PrintWriter out, String typeName, ColumnModel model) {
+
+		Column column = model.column;
+		TypeMirror valueType = erasure(model.type);
+		String valueTypeName = valueType.getKind() == TypeKind.VOID ? "void" : valueType.toString();
+		String castTypeName = valueType.getKind().isPrimitive()
+				? processingEnv.getTypeUtils().boxedClass((PrimitiveType) valueType).getQualifiedName().toString()
+				: valueTypeName;
+		String instance = "((" + typeName + ") instance)";
+
+		out.println();
+		out.println("\t\tresults.add(javax.swing.table.object.InvokableColumn.of(");
+		out.println("\t\t\t\tnew javax.swing.table.object.ColumnSpec(" + literal(column.name()) + ", " + column.index()
+				+ ", " + column.editable() + ", " + column.required() + ", " + column.unique() + ", "
+				+ literal(column.placeholder()) + ", " + literal(column.tooltip()) + ", " + literal(column.value())
+				+ ", " + literal(column.min()) + ", " + literal(column.max()) + ", " + literal(column.step()) + ", "
+				+ column.enabled() + ", " + column.concurrent() + "),");
+		out.println("\t\t\t\t" + valueTypeName + ".class, " + hasParameterlessConstructor(valueType) + ",");
+		out.println("\t\t\t\tnew javax.swing.table.object.ColumnAccessor() {");
+		out.println();
+		out.println("\t\t\t\t\t@Override");
+		out.println("\t\t\t\t\tpublic Object get(Object instance) throws ReflectiveOperationException {");
+
+		if (model.getter != null) {
+			out.println("\t\t\t\t\t\ttry {");
+			if (valueType.getKind() == TypeKind.VOID) {
+				out.println("\t\t\t\t\t\t\t" + instance + "." + model.getter.getSimpleName() + "();");
+				out.println("\t\t\t\t\t\t\treturn null;");
+			} else {
+				out.println("\t\t\t\t\t\t\treturn " + instance + "." + model.getter.getSimpleName() + "();");
+			}
+			out.println("\t\t\t\t\t\t} catch (RuntimeException e) {");
+			out.println("\t\t\t\t\t\t\tthrow new java.lang.reflect.InvocationTargetException(e);");
+			out.println("\t\t\t\t\t\t}");
+		} else {
+			out.println("\t\t\t\t\t\treturn " + instance + "." + model.field.getSimpleName() + ";");
+		}
+
+		out.println("\t\t\t\t\t}");
+		out.println();
+		out.println("\t\t\t\t\t@Override");
+		out.println("\t\t\t\t\tpublic void set(Object instance, Object value) throws ReflectiveOperationException {");
+
+		if (model.setter != null) {
+			out.println("\t\t\t\t\t\ttry {");
+			out.println("\t\t\t\t\t\t\t" + instance + "." + model.setter.getSimpleName() + "((" + castTypeName + ") value);");
+			out.println("\t\t\t\t\t\t} catch (RuntimeException e) {");
+			out.println("\t\t\t\t\t\t\tthrow new java.lang.reflect.InvocationTargetException(e);");
+			out.println("\t\t\t\t\t\t}");
+		} else if (isWritableField(model.field)) {
+			out.println("\t\t\t\t\t\t" + instance + "." + model.field.getSimpleName() + " = (" + castTypeName + ") value;");
+		} else {
+			out.println("\t\t\t\t\t\tthrow new IllegalAccessException(\"Column has no setter or field\");");
+		}
+
+		out.println("\t\t\t\t\t}");
+		out.println();
+		out.println("\t\t\t\t\t@Override");
+		out.println("\t\t\t\t\tpublic boolean isGettable() {");
+		out.println("\t\t\t\t\t\treturn true;");
+		out.println("\t\t\t\t\t}");
+		out.println();
+		out.println("\t\t\t\t\t@Override");
+		out.println("\t\t\t\t\tpublic boolean isSettable() {");
+		out.println("\t\t\t\t\t\treturn " + (model.setter != null || isWritableField(model.field)) + ";");
+		out.println("\t\t\t\t\t}");
+		out.println();
+		out.println("\t\t\t\t\t@Override");
+		out.println("\t\t\t\t\tpublic String getPropertyName() {");
+		out.println("\t\t\t\t\t\treturn " + literal(propertyName(model)) + ";");
+		out.println("\t\t\t\t\t}");
+
+		writePrimitiveAccessors(out, instance, model, valueType.getKind());
+
+		out.println("\t\t\t\t}));");
+	}
+
+	/**
+	 * Overrides the boxing defaults of {@link javax.swing.table.object.ColumnAccessor}
+	 * for primitive
+	 * columns: getters for every widening conversion, setter for the exact
+	 * type only.
+	 */
+	private void writePrimitiveAccessors(PrintWriter out, String instance, ColumnModel model, TypeKind kind) {
+
+		List<String> getterTypes = new ArrayList<>();
+		String setterType = null;
+		String read = model.getter != null ? instance + "." + model.getter.getSimpleName() + "()"
+				: instance + "." + model.field.getSimpleName();
+
+		switch (kind) {
+		case BOOLEAN:
+			getterTypes.add("boolean");
+			setterType = "boolean";
+			break;
+		case BYTE:
+		case SHORT:
+		case CHAR:
+			getterTypes.add("int");
+			getterTypes.add("long");
+			getterTypes.add("double");
+			break;
+		case INT:
+			getterTypes.add("int");
+			getterTypes.add("long");
+			getterTypes.add("double");
+			setterType = "int";
+			break;
+		case LONG:
+			getterTypes.add("long");
+			getterTypes.add("double");
+			setterType = "long";
+			break;
+		case FLOAT:
+			getterTypes.add("double");
+			break;
+		case DOUBLE:
+			getterTypes.add("double");
+			setterType = "double";
+			break;
+		default:
+			break;
+		}
+
+		for (String getterType : getterTypes) {
+
+			out.println();
+			out.println("\t\t\t\t\t@Override");
+			out.println("\t\t\t\t\tpublic " + getterType + " get" + capitalise(getterType)
+					+ "(Object instance) throws ReflectiveOperationException {");
+
+			if (model.getter != null) {
+				out.println("\t\t\t\t\t\ttry {");
+				out.println("\t\t\t\t\t\t\treturn " + read + ";");
+				out.println("\t\t\t\t\t\t} catch (RuntimeException e) {");
+				out.println("\t\t\t\t\t\t\tthrow new java.lang.reflect.InvocationTargetException(e);");
+				out.println("\t\t\t\t\t\t}");
+			} else {
+				out.println("\t\t\t\t\t\treturn " + read + ";");
+			}
+
+			out.println("\t\t\t\t\t}");
+		}
+
+		if (setterType != null && (model.setter != null || isWritableField(model.field))) {
+
+			out.println();
+			out.println("\t\t\t\t\t@Override");
+			out.println("\t\t\t\t\tpublic void set" + capitalise(setterType) + "(Object instance, " + setterType
+					+ " value) throws ReflectiveOperationException {");
+
+			if (model.setter != null) {
+				out.println("\t\t\t\t\t\ttry {");
+				out.println("\t\t\t\t\t\t\t" + instance + "." + model.setter.getSimpleName() + "(value);");
+				out.println("\t\t\t\t\t\t} catch (RuntimeException e) {");
+				out.println("\t\t\t\t\t\t\tthrow new java.lang.reflect.InvocationTargetException(e);");
+				out.println("\t\t\t\t\t\t}");
+			} else {
+				out.println("\t\t\t\t\t\t" + instance + "." + model.field.getSimpleName() + " = value;");
+			}
+
+			out.println("\t\t\t\t\t}");
+		}
+	}
+
+	private boolean isWritableField(VariableElement field) {
+		return field != null && !field.getModifiers().contains(Modifier.FINAL);
+	}
+
+	/**
+	 * Same check as {@code InvokableColumn.hasParameterlessConstructor}.
+	 */
+	private boolean hasParameterlessConstructor(TypeMirror type) {
+
+		boolean result = false;
+		Element element = null;
+
+		if (type.getKind() == TypeKind.DECLARED) {
+
+			element = ((DeclaredType) type).asElement();
+
+			for (ExecutableElement constructor : ElementFilter.constructorsIn(element.getEnclosedElements())) {
+				result |= constructor.getParameters().isEmpty()
+						&& constructor.getModifiers().contains(Modifier.PUBLIC);
+			}
+
+			result &= element.getKind() != ElementKind.INTERFACE;
+		}
+
+		return result;
+	}
+
+	private TypeMirror erasure(TypeMirror type) {
+		return type.getKind() == TypeKind.VOID || type.getKind().isPrimitive() ? type
+				: processingEnv.getTypeUtils().erasure(type);
+	}
+
+	private void error(Element element, String message) {
+		processingEnv.getMessager().printMessage(Kind.ERROR, message, element);
+	}
+
+	/**
+	 * Field name, or getter name without its <tt>get</tt> or <tt>is</tt>
+	 * prefix, as {@link javax.swing.table.object.InvokableColumn#getPropertyName()}
+	 */
+	private static String propertyName(ColumnModel model) {
+
+		String result = null;
+
+		if (model.getter != null) {
+
+			result = model.getter.getSimpleName().toString();
+
+			if (result.startsWith("get") && result.length() > 3) {
+				result = Introspector.decapitalize(result.substring(3));
+			} else if (result.startsWith("is") && result.length() > 2) {
+				result = Introspector.decapitalize(result.substring(2));
+			}
+
+		} else {
+
+			result = model.field.getSimpleName().toString();
+		}
+
+		return result;
+	}
+
+	private static String capitalise(String value) {
+		return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+	}
+
+	private static String literal(String value) {
+
+		StringBuilder result = new StringBuilder("\"");
+
+		for (char c : value.toCharArray()) {
+			switch (c) {
+			case '"':
+				result.append("\\\"");
+				break;
+			case '\\':
+				result.append("\\\\");
+				break;
+			case '\n':
+				result.append("\\n");
+				break;
+			case '\r':
+				result.append("\\r");
+				break;
+			case '\t':
+				result.append("\\t");
+				break;
+			default:
+				if (c < 0x20 || c > 0x7e) {
+					result.append(String.format("\\u%04x", (int) c));
+				} else {
+					result.append(c);
+				}
+			}
+		}
+
+		return result.append('"').toString();
+	}
+
+	/**
+	 * Members resolved for one column name.
+	 */
+	private static final class ColumnModel {
+
+		private final Column column;
+		private final TypeMirror type;
+		private VariableElement field;
+		private ExecutableElement getter;
+		private ExecutableElement setter;
+
+		private ColumnModel(Column column, TypeMirror type) {
+			this.column = column;
+			this.type = type;
+		}
+	}
+}
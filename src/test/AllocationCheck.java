@@ -0,0 +1,126 @@
+package test;
+
+import java.lang.management.ManagementFactory;
+
+import javax.swing.JObjectTable;
+import javax.swing.SwingUtilities;
+
+/**
+ *
+ * Renders each cell of every column over and over, with and without fast
+ * rendering, and fails unless repainting a cell whose value did not change
+ * allocates nothing. Run with <tt>-Djava.awt.headless=true</tt> where there is
+ * no display.
+ *
+ * @author Antony Hixson
+ *
+ */
+public class AllocationCheck {
+
+	private static final int ROWS = 50;
+	private static final int WARM_UP_PASSES = 5;
+	private static final int RENDERS_PER_CELL = 100;
+
+	/**
+	 * Reading the counter allocates a little itself
+	 */
+	private static final long MAX_BYTES_PER_CELL = 256;
+
+	private static com.sun.management.ThreadMXBean threadBean;
+	private static JObjectTable<Employee> table;
+	private static boolean failed;
+
+	public static void main(String[] args) throws Exception {
+
+		if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+			System.out.println("Allocated bytes are not measured by this runtime, skipped");
+			return;
+		}
+
+		threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+		if (!threadBean.isThreadAllocatedMemorySupported()) {
+			System.out.println("Allocated bytes are not measured by this runtime, skipped");
+			return;
+		}
+
+		threadBean.setThreadAllocatedMemoryEnabled(true);
+
+		SwingUtilities.invokeAndWait(AllocationCheck::createTable);
+		SwingUtilities.invokeAndWait(AllocationCheck::checkColumns);
+
+		SwingUtilities.invokeAndWait(() -> table.setFastRendering(true));
+		SwingUtilities.invokeAndWait(AllocationCheck::checkColumns);
+
+		System.out.println(failed ? "FAILED" : "OK");
+
+		System.exit(failed ? 1 : 0);
+	}
+
+	private static void createTable() {
+
+		table = new JObjectTable<>(Employee.class);
+
+		for (int i = 0; i < ROWS; i++) {
+			table.addValue(new Employee("Employee " + i, i % 2 == 0, 1_500_000_000_000L + i, 18 + i,
+					Employee.Occupation.values()[i % Employee.Occupation.values().length]));
+		}
+
+		table.setSize(800, ROWS * table.getRowHeight());
+	}
+
+	/**
+	 * Called on the event dispatch thread, where the cells are rendered
+	 */
+	private static void checkColumns() {
+
+		long bytes = 0;
+		long maxBytes = 0;
+
+		for (int column = 0; column < table.getColumnCount(); column++) {
+
+			maxBytes = 0;
+
+			for (int pass = 0; pass <= WARM_UP_PASSES; pass++) {
+
+				for (int row = 0; row < table.getRowCount(); row++) {
+
+					bytes = renderCell(row, column);
+
+					if (pass == WARM_UP_PASSES) {
+						maxBytes = Math.max(maxBytes, bytes);
+					}
+				}
+			}
+
+			System.out.println(String.format("%-12s %-12s fast=%-5s %6d bytes", table.getColumnName(column),
+					table.getCellRenderer(0, column).getClass().getSimpleName(), table.isFastRendering(), maxBytes));
+
+			if (maxBytes > MAX_BYTES_PER_CELL) {
+				failed = true;
+			}
+		}
+	}
+
+	/**
+	 * Render a cell, which may allocate as its value differs from the cell
+	 * rendered before, then render it again and again.
+	 *
+	 * @return Bytes allocated by the repeated renders
+	 */
+	private static long renderCell(int row, int column) {
+
+		long threadId = Thread.currentThread().getId();
+		long before = 0;
+
+		table.prepareRenderer(table.getCellRenderer(row, column), row, column);
+
+		before = threadBean.getThreadAllocatedBytes(threadId);
+
+		for (int i = 0; i < RENDERS_PER_CELL; i++) {
+			table.prepareRenderer(table.getCellRenderer(row, column), row, column);
+		}
+
+		return threadBean.getThreadAllocatedBytes(threadId) - before;
+	}
+}
@@ -25,7 +25,7 @@ public class Employee {
 	@Column(name = "Joined date", min = "0", placeholder = "timestamp", required = true, tooltip = "Date of joining the company")
 	long joined;
 
-	@Column(name = "Joined date", min = "0", placeholder = "timestamp", value = "18", tooltip = "Age of the employee (optional)")
+	@Column(name = "Age", min = "0", value = "18", tooltip = "Age of the employee (optional)")
 	int age;
 
 	@Column(name = "Job")